@@ -0,0 +1,64 @@
+package com.toads.odyssey.benchmarks;
+
+import com.toads.odyssey.util.AssetsLoader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading every asset of the game with the {@link AssetsLoader}, as the loading screen does at startup.
+ * The shared loader is only constructed once, so every invocation constructs a loader of its own.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class AssetsLoaderBenchmark {
+    private AssetsLoader loader;
+
+    /**
+     * Starts the headless backend.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessEnvironment.init();
+    }
+
+    /**
+     * Constructs an assets loader and loads every asset.
+     *
+     * @return the assets loader
+     */
+    @Benchmark
+    public AssetsLoader construct() {
+        loader = AssetsLoader.newInstance();
+        loader.finishLoading();
+        return loader;
+    }
+
+    /**
+     * Disposes the assets loaded by the last invocation.
+     */
+    @TearDown(Level.Iteration)
+    public void disposeLoader() {
+        if (loader != null) {
+            loader.dispose();
+            loader = null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.toads.odyssey.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+/**
+ * Sets up libGDX for the benchmarks: the headless backend for files and natives, and a {@link StubGL20} so that
+ * textures can be created without a GPU. Texture decoding still happens, only the upload to the GPU is skipped.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class HeadlessEnvironment {
+    private static boolean initialized = false;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HeadlessEnvironment() {
+    }
+
+    /**
+     * Starts the headless backend once per JVM.
+     * The working directory must be the assets directory.
+     */
+    public static synchronized void init() {
+        if (initialized) {
+            return;
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, config);
+        Gdx.gl = new StubGL20();
+        Gdx.gl20 = Gdx.gl;
+        initialized = true;
+    }
+}
@@ -0,0 +1,101 @@
+package com.toads.odyssey.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.toads.odyssey.util.AssetsLoader;
+import com.toads.odyssey.view.Hud;
+import com.toads.odyssey.view.RenderQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the work of the HUD: looking up the digit regions of the coin count, which it only does again when the
+ * count changes, and a frame that draws the HUD from its cached layer because nothing it shows changed.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HudBenchmark {
+    private static final int LIVES = 3;
+    private static final float VIEW_WIDTH = 12.8f;
+    private static final float VIEW_HEIGHT = 7.2f;
+    /**
+     * The coin count shown.
+     */
+    @Param({"0", "42", "999"})
+    public int coinCount;
+    private final Array<TextureRegion> digits = new Array<>();
+    private final RenderQueue queue = new RenderQueue();
+    private AssetsLoader assetsLoader;
+    private SpriteBatch batch;
+    private Hud hud;
+
+    /**
+     * Loads the assets and draws the HUD's layer once, showing the coin count.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessEnvironment.init();
+        assetsLoader = AssetsLoader.getInstance();
+        assetsLoader.finishLoading();
+        batch = new SpriteBatch();
+        hud = new Hud(assetsLoader, batch);
+        hud.updateCoinCount(coinCount);
+        hud.refresh(LIVES, LIVES);
+    }
+
+    /**
+     * Looks up the digit regions of the coin count, into the same array every time.
+     *
+     * @return the digit regions
+     */
+    @Benchmark
+    public Array<TextureRegion> numberTextures() {
+        return assetsLoader.getNumberTextures(coinCount, digits);
+    }
+
+    /**
+     * Draws a frame of the HUD whose coin count and lives did not change: checks the layer is still up to date and
+     * draws it as one quad.
+     *
+     * @return the queue the layer went through
+     */
+    @Benchmark
+    public RenderQueue cachedFrame() {
+        hud.refresh(LIVES, LIVES);
+        hud.submitLayer(queue, 0f, 0f, VIEW_WIDTH, VIEW_HEIGHT);
+        batch.begin();
+        queue.flush(batch);
+        batch.end();
+        return queue;
+    }
+
+    /**
+     * Disposes the HUD, the batch and the assets.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        hud.dispose();
+        batch.dispose();
+        assetsLoader.dispose();
+    }
+}
@@ -0,0 +1,91 @@
+package com.toads.odyssey.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.toads.odyssey.model.Level1Simulation;
+import com.toads.odyssey.model.LevelSimulation;
+import com.toads.odyssey.util.SimulationMapLoader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading the first level: parsing the TMX map and building the Box2D bodies of its objects.
+ * The "simulation" loader skips the tile sets, as the headless runner does; the "full" loader also decodes the
+ * tile set images, as the game does. The "tmx" format parses the map's XML, the "compiled" format reads the level
+ * compiled by the compileLevels task.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LevelLoadBenchmark {
+    private static final String LEVEL_PATH = "maps/map.lvl";
+    /**
+     * The map loader used, "simulation" or "full".
+     */
+    @Param({"simulation", "full"})
+    public String loader;
+    /**
+     * The format the level is read from, "tmx" or "compiled".
+     */
+    @Param({"tmx", "compiled"})
+    public String format;
+    private LevelSimulation simulation;
+
+    /**
+     * Starts the headless backend.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessEnvironment.init();
+    }
+
+    /**
+     * Loads the first level.
+     *
+     * @return the loaded level
+     */
+    @Benchmark
+    public LevelSimulation loadLevel1() {
+        TmxMapLoader mapLoader;
+        if ("full".equals(loader)) {
+            mapLoader = new TmxMapLoader();
+        } else {
+            mapLoader = new SimulationMapLoader();
+        }
+        if ("compiled".equals(format)) {
+            simulation = new Level1Simulation(mapLoader, Gdx.files.internal(LEVEL_PATH));
+        } else {
+            simulation = new Level1Simulation(mapLoader, null);
+        }
+        return simulation;
+    }
+
+    /**
+     * Disposes the level loaded by the last invocation.
+     */
+    @TearDown(Level.Invocation)
+    public void disposeLevel() {
+        if (simulation != null) {
+            simulation.dispose();
+            simulation = null;
+        }
+    }
+}
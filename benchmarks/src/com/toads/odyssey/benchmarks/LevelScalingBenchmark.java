@@ -0,0 +1,108 @@
+package com.toads.odyssey.benchmarks;
+
+import com.toads.odyssey.model.Level1Simulation;
+import com.toads.odyssey.model.LevelSimulation;
+import com.toads.odyssey.util.Constants;
+import com.toads.odyssey.util.LevelGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how loading and stepping a level scale with its length, on generated levels of growing size.
+ * Every level has two coins per platform and a mushroom every ten platforms, and the same seed, so each size is the
+ * same level on every run. The tile layer is not generated, as the headless runner has no textures to draw it with.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LevelScalingBenchmark {
+    private static final long SEED = 42L;
+    private static final int COINS_PER_PLATFORM = 2;
+    private static final int PLATFORMS_PER_MUSHROOM = 10;
+    /**
+     * The number of platforms of the level.
+     */
+    @Param({"100", "1000", "10000"})
+    public int platforms;
+    private LevelGenerator generator;
+    private LevelSimulation simulation;
+    private LevelSimulation loaded;
+
+    /**
+     * Starts the headless backend and sets up the generator of the level.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessEnvironment.init();
+        generator = new LevelGenerator(SEED, platforms, platforms * COINS_PER_PLATFORM,
+                platforms / PLATFORMS_PER_MUSHROOM);
+    }
+
+    /**
+     * Loads a fresh level for the ticks, with the player walking back and forth over its start.
+     */
+    @Setup(Level.Iteration)
+    public void loadLevel() {
+        simulation = new Level1Simulation(generator.generate(false));
+        simulation.setInputSource(new PatrolInput());
+    }
+
+    /**
+     * Generates the level and loads it: describes its objects and creates the bodies near the player.
+     *
+     * @return the loaded level
+     */
+    @Benchmark
+    public LevelSimulation load() {
+        loaded = new Level1Simulation(generator.generate(false));
+        return loaded;
+    }
+
+    /**
+     * Runs one whole simulation tick, whose cost should not grow with the length of the level.
+     *
+     * @return the simulation
+     */
+    @Benchmark
+    public LevelSimulation tick() {
+        simulation.update(Constants.TIME_STEP);
+        return simulation;
+    }
+
+    /**
+     * Disposes the level loaded by the last invocation of {@link #load()}.
+     */
+    @TearDown(Level.Invocation)
+    public void disposeLoaded() {
+        if (loaded != null) {
+            loaded.dispose();
+            loaded = null;
+        }
+    }
+
+    /**
+     * Disposes the level of the ticks.
+     */
+    @TearDown(Level.Iteration)
+    public void disposeLevel() {
+        simulation.dispose();
+    }
+}
@@ -0,0 +1,47 @@
+package com.toads.odyssey.benchmarks;
+
+import com.toads.odyssey.util.InputSource;
+
+/**
+ * Walks the player back and forth and jumps now and then, so that the player keeps moving over the start of the
+ * level for as long as a benchmark runs.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class PatrolInput implements InputSource {
+    private static final int TICKS_PER_DIRECTION = 120;
+    private static final int TICKS_PER_JUMP = 45;
+    private static final int JUMP_TICKS = 10;
+    private int tick = 0;
+
+    /**
+     * Returns the buttons of the next tick.
+     *
+     * @return the buttons held
+     */
+    @Override
+    public int poll() {
+        int buttons;
+        if ((tick / TICKS_PER_DIRECTION) % 2 == 0) {
+            buttons = RIGHT;
+        } else {
+            buttons = LEFT;
+        }
+        if (tick % TICKS_PER_JUMP < JUMP_TICKS) {
+            buttons |= UP;
+        }
+        tick++;
+        return buttons;
+    }
+
+    /**
+     * Returns the string representation of PatrolInput.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "PatrolInput{" + "tick=" + tick + '}';
+    }
+}
@@ -0,0 +1,94 @@
+package com.toads.odyssey.benchmarks;
+
+import com.badlogic.gdx.physics.box2d.World;
+import com.toads.odyssey.model.Level1Simulation;
+import com.toads.odyssey.model.LevelSimulation;
+import com.toads.odyssey.model.Player;
+import com.toads.odyssey.util.Constants;
+import com.toads.odyssey.util.SimulationMapLoader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures stepping the first level with the player walking back and forth over its start.
+ * A fresh level is loaded for every iteration so that every iteration starts from the same state.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PhysicsStepBenchmark {
+    private LevelSimulation simulation;
+    private World world;
+    private Player player;
+    private PatrolInput input;
+
+    /**
+     * Starts the headless backend.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessEnvironment.init();
+    }
+
+    /**
+     * Loads a fresh level.
+     */
+    @Setup(Level.Iteration)
+    public void loadLevel() {
+        simulation = new Level1Simulation(new SimulationMapLoader());
+        input = new PatrolInput();
+        simulation.setInputSource(input);
+        world = simulation.getWorld();
+        player = simulation.getPlayer();
+    }
+
+    /**
+     * Applies the player's input and steps the Box2D world once.
+     *
+     * @return the world
+     */
+    @Benchmark
+    public World worldStep() {
+        player.applyInput(input.poll());
+        player.handleKeyPressed();
+        player.savePreviousPosition();
+        world.step(Constants.TIME_STEP, Constants.VELOCITY_ITERATIONS, Constants.POSITION_ITERATIONS);
+        return world;
+    }
+
+    /**
+     * Runs one whole simulation tick: input, physics, contacts, game logic and animation state.
+     *
+     * @return the simulation
+     */
+    @Benchmark
+    public LevelSimulation tick() {
+        simulation.update(Constants.TIME_STEP);
+        return simulation;
+    }
+
+    /**
+     * Disposes the level.
+     */
+    @TearDown(Level.Iteration)
+    public void disposeLevel() {
+        simulation.dispose();
+    }
+}
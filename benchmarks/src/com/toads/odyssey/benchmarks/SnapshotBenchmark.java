@@ -0,0 +1,67 @@
+package com.toads.odyssey.benchmarks;
+
+import com.toads.odyssey.model.Level1Simulation;
+import com.toads.odyssey.model.LevelSimulation;
+import com.toads.odyssey.model.SimulationSnapshot;
+import com.toads.odyssey.model.SnapshotBuffer;
+import com.toads.odyssey.util.SimulationMapLoader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures publishing and acquiring the snapshot of the first level, the per-frame hand-off between the simulation
+ * and the renderer, which includes the state of every coin.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+    private LevelSimulation simulation;
+    private SnapshotBuffer snapshots;
+
+    /**
+     * Loads the level.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessEnvironment.init();
+        simulation = new Level1Simulation(new SimulationMapLoader());
+        snapshots = new SnapshotBuffer();
+    }
+
+    /**
+     * Publishes a snapshot of the level and acquires it back.
+     *
+     * @return the snapshot
+     */
+    @Benchmark
+    public SimulationSnapshot publishAndAcquire() {
+        snapshots.publish(simulation, 1f);
+        return snapshots.acquire();
+    }
+
+    /**
+     * Disposes the level.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+}
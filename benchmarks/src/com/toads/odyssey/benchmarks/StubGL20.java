@@ -0,0 +1,714 @@
+package com.toads.odyssey.benchmarks;
+
+import com.badlogic.gdx.graphics.GL20;
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * A GL that does nothing, for code that needs shaders and frame buffers without a GPU. Every shader and program
+ * reports itself compiled and linked, every frame buffer reports itself complete, and every name it is asked to
+ * generate or look up is 1. Unlike a mock, it allocates nothing, so it does not show in allocation counts.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class StubGL20 implements GL20 {
+    @Override
+    public void glActiveTexture(final int arg0) {
+    }
+
+    @Override
+    public void glAttachShader(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glBindAttribLocation(final int arg0, final int arg1, final String arg2) {
+    }
+
+    @Override
+    public void glBindBuffer(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glBindFramebuffer(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glBindRenderbuffer(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glBindTexture(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glBlendColor(final float arg0, final float arg1, final float arg2, final float arg3) {
+    }
+
+    @Override
+    public void glBlendEquation(final int arg0) {
+    }
+
+    @Override
+    public void glBlendEquationSeparate(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glBlendFunc(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glBlendFuncSeparate(final int arg0, final int arg1, final int arg2, final int arg3) {
+    }
+
+    @Override
+    public void glBufferData(final int arg0, final int arg1, final Buffer arg2, final int arg3) {
+    }
+
+    @Override
+    public void glBufferSubData(final int arg0, final int arg1, final int arg2, final Buffer arg3) {
+    }
+
+    @Override
+    public int glCheckFramebufferStatus(final int arg0) {
+        return GL_FRAMEBUFFER_COMPLETE;
+    }
+
+    @Override
+    public void glClear(final int arg0) {
+    }
+
+    @Override
+    public void glClearColor(final float arg0, final float arg1, final float arg2, final float arg3) {
+    }
+
+    @Override
+    public void glClearDepthf(final float arg0) {
+    }
+
+    @Override
+    public void glClearStencil(final int arg0) {
+    }
+
+    @Override
+    public void glColorMask(final boolean arg0, final boolean arg1, final boolean arg2, final boolean arg3) {
+    }
+
+    @Override
+    public void glCompileShader(final int arg0) {
+    }
+
+    @Override
+    public void glCompressedTexImage2D(final int arg0, final int arg1, final int arg2, final int arg3, final int arg4,
+                                       final int arg5, final int arg6, final Buffer arg7) {
+    }
+
+    @Override
+    public void glCompressedTexSubImage2D(final int arg0, final int arg1, final int arg2, final int arg3,
+                                          final int arg4, final int arg5, final int arg6, final int arg7,
+                                          final Buffer arg8) {
+    }
+
+    @Override
+    public void glCopyTexImage2D(final int arg0, final int arg1, final int arg2, final int arg3, final int arg4,
+                                 final int arg5, final int arg6, final int arg7) {
+    }
+
+    @Override
+    public void glCopyTexSubImage2D(final int arg0, final int arg1, final int arg2, final int arg3, final int arg4,
+                                    final int arg5, final int arg6, final int arg7) {
+    }
+
+    @Override
+    public int glCreateProgram() {
+        return 1;
+    }
+
+    @Override
+    public int glCreateShader(final int arg0) {
+        return 1;
+    }
+
+    @Override
+    public void glCullFace(final int arg0) {
+    }
+
+    @Override
+    public void glDeleteBuffer(final int arg0) {
+    }
+
+    @Override
+    public void glDeleteBuffers(final int arg0, final IntBuffer arg1) {
+    }
+
+    @Override
+    public void glDeleteFramebuffer(final int arg0) {
+    }
+
+    @Override
+    public void glDeleteFramebuffers(final int arg0, final IntBuffer arg1) {
+    }
+
+    @Override
+    public void glDeleteProgram(final int arg0) {
+    }
+
+    @Override
+    public void glDeleteRenderbuffer(final int arg0) {
+    }
+
+    @Override
+    public void glDeleteRenderbuffers(final int arg0, final IntBuffer arg1) {
+    }
+
+    @Override
+    public void glDeleteShader(final int arg0) {
+    }
+
+    @Override
+    public void glDeleteTexture(final int arg0) {
+    }
+
+    @Override
+    public void glDeleteTextures(final int arg0, final IntBuffer arg1) {
+    }
+
+    @Override
+    public void glDepthFunc(final int arg0) {
+    }
+
+    @Override
+    public void glDepthMask(final boolean arg0) {
+    }
+
+    @Override
+    public void glDepthRangef(final float arg0, final float arg1) {
+    }
+
+    @Override
+    public void glDetachShader(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glDisable(final int arg0) {
+    }
+
+    @Override
+    public void glDisableVertexAttribArray(final int arg0) {
+    }
+
+    @Override
+    public void glDrawArrays(final int arg0, final int arg1, final int arg2) {
+    }
+
+    @Override
+    public void glDrawElements(final int arg0, final int arg1, final int arg2, final Buffer arg3) {
+    }
+
+    @Override
+    public void glDrawElements(final int arg0, final int arg1, final int arg2, final int arg3) {
+    }
+
+    @Override
+    public void glEnable(final int arg0) {
+    }
+
+    @Override
+    public void glEnableVertexAttribArray(final int arg0) {
+    }
+
+    @Override
+    public void glFinish() {
+    }
+
+    @Override
+    public void glFlush() {
+    }
+
+    @Override
+    public void glFramebufferRenderbuffer(final int arg0, final int arg1, final int arg2, final int arg3) {
+    }
+
+    @Override
+    public void glFramebufferTexture2D(final int arg0, final int arg1, final int arg2, final int arg3, final int arg4) {
+    }
+
+    @Override
+    public void glFrontFace(final int arg0) {
+    }
+
+    @Override
+    public int glGenBuffer() {
+        return 1;
+    }
+
+    @Override
+    public void glGenBuffers(final int arg0, final IntBuffer arg1) {
+    }
+
+    @Override
+    public int glGenFramebuffer() {
+        return 1;
+    }
+
+    @Override
+    public void glGenFramebuffers(final int arg0, final IntBuffer arg1) {
+    }
+
+    @Override
+    public int glGenRenderbuffer() {
+        return 1;
+    }
+
+    @Override
+    public void glGenRenderbuffers(final int arg0, final IntBuffer arg1) {
+    }
+
+    @Override
+    public int glGenTexture() {
+        return 1;
+    }
+
+    @Override
+    public void glGenTextures(final int arg0, final IntBuffer arg1) {
+    }
+
+    @Override
+    public void glGenerateMipmap(final int arg0) {
+    }
+
+    @Override
+    public String glGetActiveAttrib(final int arg0, final int arg1, final IntBuffer arg2, final IntBuffer arg3) {
+        return "";
+    }
+
+    @Override
+    public String glGetActiveUniform(final int arg0, final int arg1, final IntBuffer arg2, final IntBuffer arg3) {
+        return "";
+    }
+
+    @Override
+    public void glGetAttachedShaders(final int arg0, final int arg1, final Buffer arg2, final IntBuffer arg3) {
+    }
+
+    @Override
+    public int glGetAttribLocation(final int arg0, final String arg1) {
+        return 1;
+    }
+
+    @Override
+    public void glGetBooleanv(final int arg0, final Buffer arg1) {
+    }
+
+    @Override
+    public void glGetBufferParameteriv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public int glGetError() {
+        return GL_NO_ERROR;
+    }
+
+    @Override
+    public void glGetFloatv(final int arg0, final FloatBuffer arg1) {
+    }
+
+    @Override
+    public void glGetFramebufferAttachmentParameteriv(final int arg0, final int arg1, final int arg2,
+                                                      final IntBuffer arg3) {
+    }
+
+    @Override
+    public void glGetIntegerv(final int arg0, final IntBuffer arg1) {
+    }
+
+    @Override
+    public String glGetProgramInfoLog(final int arg0) {
+        return "";
+    }
+
+    @Override
+    public void glGetProgramiv(final int arg0, final int arg1, final IntBuffer arg2) {
+        arg2.put(0, GL_TRUE);
+    }
+
+    @Override
+    public void glGetRenderbufferParameteriv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public String glGetShaderInfoLog(final int arg0) {
+        return "";
+    }
+
+    @Override
+    public void glGetShaderPrecisionFormat(final int arg0, final int arg1, final IntBuffer arg2, final IntBuffer arg3) {
+    }
+
+    @Override
+    public void glGetShaderiv(final int arg0, final int arg1, final IntBuffer arg2) {
+        arg2.put(0, GL_TRUE);
+    }
+
+    @Override
+    public String glGetString(final int arg0) {
+        return "";
+    }
+
+    @Override
+    public void glGetTexParameterfv(final int arg0, final int arg1, final FloatBuffer arg2) {
+    }
+
+    @Override
+    public void glGetTexParameteriv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public int glGetUniformLocation(final int arg0, final String arg1) {
+        return 1;
+    }
+
+    @Override
+    public void glGetUniformfv(final int arg0, final int arg1, final FloatBuffer arg2) {
+    }
+
+    @Override
+    public void glGetUniformiv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public void glGetVertexAttribPointerv(final int arg0, final int arg1, final Buffer arg2) {
+    }
+
+    @Override
+    public void glGetVertexAttribfv(final int arg0, final int arg1, final FloatBuffer arg2) {
+    }
+
+    @Override
+    public void glGetVertexAttribiv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public void glHint(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public boolean glIsBuffer(final int arg0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsEnabled(final int arg0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsFramebuffer(final int arg0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsProgram(final int arg0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsRenderbuffer(final int arg0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsShader(final int arg0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsTexture(final int arg0) {
+        return false;
+    }
+
+    @Override
+    public void glLineWidth(final float arg0) {
+    }
+
+    @Override
+    public void glLinkProgram(final int arg0) {
+    }
+
+    @Override
+    public void glPixelStorei(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glPolygonOffset(final float arg0, final float arg1) {
+    }
+
+    @Override
+    public void glReadPixels(final int arg0, final int arg1, final int arg2, final int arg3, final int arg4,
+                             final int arg5, final Buffer arg6) {
+    }
+
+    @Override
+    public void glReleaseShaderCompiler() {
+    }
+
+    @Override
+    public void glRenderbufferStorage(final int arg0, final int arg1, final int arg2, final int arg3) {
+    }
+
+    @Override
+    public void glSampleCoverage(final float arg0, final boolean arg1) {
+    }
+
+    @Override
+    public void glScissor(final int arg0, final int arg1, final int arg2, final int arg3) {
+    }
+
+    @Override
+    public void glShaderBinary(final int arg0, final IntBuffer arg1, final int arg2, final Buffer arg3,
+                               final int arg4) {
+    }
+
+    @Override
+    public void glShaderSource(final int arg0, final String arg1) {
+    }
+
+    @Override
+    public void glStencilFunc(final int arg0, final int arg1, final int arg2) {
+    }
+
+    @Override
+    public void glStencilFuncSeparate(final int arg0, final int arg1, final int arg2, final int arg3) {
+    }
+
+    @Override
+    public void glStencilMask(final int arg0) {
+    }
+
+    @Override
+    public void glStencilMaskSeparate(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glStencilOp(final int arg0, final int arg1, final int arg2) {
+    }
+
+    @Override
+    public void glStencilOpSeparate(final int arg0, final int arg1, final int arg2, final int arg3) {
+    }
+
+    @Override
+    public void glTexImage2D(final int arg0, final int arg1, final int arg2, final int arg3, final int arg4,
+                             final int arg5, final int arg6, final int arg7, final Buffer arg8) {
+    }
+
+    @Override
+    public void glTexParameterf(final int arg0, final int arg1, final float arg2) {
+    }
+
+    @Override
+    public void glTexParameterfv(final int arg0, final int arg1, final FloatBuffer arg2) {
+    }
+
+    @Override
+    public void glTexParameteri(final int arg0, final int arg1, final int arg2) {
+    }
+
+    @Override
+    public void glTexParameteriv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public void glTexSubImage2D(final int arg0, final int arg1, final int arg2, final int arg3, final int arg4,
+                                final int arg5, final int arg6, final int arg7, final Buffer arg8) {
+    }
+
+    @Override
+    public void glUniform1f(final int arg0, final float arg1) {
+    }
+
+    @Override
+    public void glUniform1fv(final int arg0, final int arg1, final float[] arg2, final int arg3) {
+    }
+
+    @Override
+    public void glUniform1fv(final int arg0, final int arg1, final FloatBuffer arg2) {
+    }
+
+    @Override
+    public void glUniform1i(final int arg0, final int arg1) {
+    }
+
+    @Override
+    public void glUniform1iv(final int arg0, final int arg1, final int[] arg2, final int arg3) {
+    }
+
+    @Override
+    public void glUniform1iv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public void glUniform2f(final int arg0, final float arg1, final float arg2) {
+    }
+
+    @Override
+    public void glUniform2fv(final int arg0, final int arg1, final float[] arg2, final int arg3) {
+    }
+
+    @Override
+    public void glUniform2fv(final int arg0, final int arg1, final FloatBuffer arg2) {
+    }
+
+    @Override
+    public void glUniform2i(final int arg0, final int arg1, final int arg2) {
+    }
+
+    @Override
+    public void glUniform2iv(final int arg0, final int arg1, final int[] arg2, final int arg3) {
+    }
+
+    @Override
+    public void glUniform2iv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public void glUniform3f(final int arg0, final float arg1, final float arg2, final float arg3) {
+    }
+
+    @Override
+    public void glUniform3fv(final int arg0, final int arg1, final float[] arg2, final int arg3) {
+    }
+
+    @Override
+    public void glUniform3fv(final int arg0, final int arg1, final FloatBuffer arg2) {
+    }
+
+    @Override
+    public void glUniform3i(final int arg0, final int arg1, final int arg2, final int arg3) {
+    }
+
+    @Override
+    public void glUniform3iv(final int arg0, final int arg1, final int[] arg2, final int arg3) {
+    }
+
+    @Override
+    public void glUniform3iv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public void glUniform4f(final int arg0, final float arg1, final float arg2, final float arg3, final float arg4) {
+    }
+
+    @Override
+    public void glUniform4fv(final int arg0, final int arg1, final float[] arg2, final int arg3) {
+    }
+
+    @Override
+    public void glUniform4fv(final int arg0, final int arg1, final FloatBuffer arg2) {
+    }
+
+    @Override
+    public void glUniform4i(final int arg0, final int arg1, final int arg2, final int arg3, final int arg4) {
+    }
+
+    @Override
+    public void glUniform4iv(final int arg0, final int arg1, final int[] arg2, final int arg3) {
+    }
+
+    @Override
+    public void glUniform4iv(final int arg0, final int arg1, final IntBuffer arg2) {
+    }
+
+    @Override
+    public void glUniformMatrix2fv(final int arg0, final int arg1, final boolean arg2, final float[] arg3,
+                                   final int arg4) {
+    }
+
+    @Override
+    public void glUniformMatrix2fv(final int arg0, final int arg1, final boolean arg2, final FloatBuffer arg3) {
+    }
+
+    @Override
+    public void glUniformMatrix3fv(final int arg0, final int arg1, final boolean arg2, final float[] arg3,
+                                   final int arg4) {
+    }
+
+    @Override
+    public void glUniformMatrix3fv(final int arg0, final int arg1, final boolean arg2, final FloatBuffer arg3) {
+    }
+
+    @Override
+    public void glUniformMatrix4fv(final int arg0, final int arg1, final boolean arg2, final float[] arg3,
+                                   final int arg4) {
+    }
+
+    @Override
+    public void glUniformMatrix4fv(final int arg0, final int arg1, final boolean arg2, final FloatBuffer arg3) {
+    }
+
+    @Override
+    public void glUseProgram(final int arg0) {
+    }
+
+    @Override
+    public void glValidateProgram(final int arg0) {
+    }
+
+    @Override
+    public void glVertexAttrib1f(final int arg0, final float arg1) {
+    }
+
+    @Override
+    public void glVertexAttrib1fv(final int arg0, final FloatBuffer arg1) {
+    }
+
+    @Override
+    public void glVertexAttrib2f(final int arg0, final float arg1, final float arg2) {
+    }
+
+    @Override
+    public void glVertexAttrib2fv(final int arg0, final FloatBuffer arg1) {
+    }
+
+    @Override
+    public void glVertexAttrib3f(final int arg0, final float arg1, final float arg2, final float arg3) {
+    }
+
+    @Override
+    public void glVertexAttrib3fv(final int arg0, final FloatBuffer arg1) {
+    }
+
+    @Override
+    public void glVertexAttrib4f(final int arg0, final float arg1, final float arg2, final float arg3,
+                                 final float arg4) {
+    }
+
+    @Override
+    public void glVertexAttrib4fv(final int arg0, final FloatBuffer arg1) {
+    }
+
+    @Override
+    public void glVertexAttribPointer(final int arg0, final int arg1, final int arg2, final boolean arg3,
+                                      final int arg4, final Buffer arg5) {
+    }
+
+    @Override
+    public void glVertexAttribPointer(final int arg0, final int arg1, final int arg2, final boolean arg3,
+                                      final int arg4, final int arg5) {
+    }
+
+    @Override
+    public void glViewport(final int arg0, final int arg1, final int arg2, final int arg3) {
+    }
+
+    /**
+     * Returns the string representation of StubGL20.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "StubGL20{}";
+    }
+}
@@ -0,0 +1,188 @@
+package com.toads.odyssey.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Array;
+import com.toads.odyssey.model.PlayerMode;
+import com.toads.odyssey.util.AssetsLoader;
+import com.toads.odyssey.view.Hud;
+import com.toads.odyssey.view.RenderLayer;
+import com.toads.odyssey.view.RenderQueue;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks how many times a gameplay frame, drawn through a {@link RenderQueue} as the level does, flushes the batch
+ * and binds a texture. Every gameplay sprite is in the merged gameplay atlas, so the entities and the player take
+ * one flush and one bind however their submissions interleave, and the HUD's layer, on its own texture and
+ * blending, takes one more of each.
+ * The headless backend's graphics neither hold nor swap a GL, so the profiler is given graphics that do, and the
+ * counting GL it swaps in is drawn on.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public class GameplayFrameTest {
+    private static final int SPRITES = 200;
+    private static final float SPRITE_SIZE = 1f;
+    private static final float VIEW_WIDTH = 12.8f;
+    private static final float VIEW_HEIGHT = 7.2f;
+    private static final int MAX_LIVES = 3;
+    private static final int COINS = 1234;
+    private static final float FRAME_TIME = 0.05f;
+    private static final Array<TextureRegion> GAMEPLAY_REGIONS = new Array<>();
+    private static GLProfiler profiler;
+    private static AssetsLoader assetsLoader;
+    private static SpriteBatch batch;
+    private static Hud hud;
+    private RenderQueue queue;
+
+    /**
+     * Loads the assets, creates the batch and the HUD on a stub GL, and puts a profiler between them and the GL.
+     */
+    @BeforeClass
+    public static void setUp() {
+        HeadlessEnvironment.init();
+        assetsLoader = AssetsLoader.getInstance();
+        assetsLoader.finishLoading();
+        batch = new SpriteBatch();
+        hud = new Hud(assetsLoader, batch);
+        hud.updateCoinCount(COINS);
+        hud.refresh(MAX_LIVES - 1, MAX_LIVES);
+        collectGameplayRegions();
+        profiler = new GLProfiler(new ProfiledGraphics());
+        profiler.enable();
+    }
+
+    /**
+     * Starts every test with an empty queue and the profiler's counts at zero.
+     */
+    @Before
+    public void reset() {
+        queue = new RenderQueue();
+        profiler.reset();
+    }
+
+    /**
+     * Gameplay sprites interleaved across the entity and player layers are drawn with one flush and one bind.
+     */
+    @Test
+    public void gameplaySpritesTakeOneFlush() {
+        submitGameplaySprites(0, SPRITES);
+        renderFrame();
+        assertEquals("batch flushes", 1, batch.renderCalls);
+        assertEquals("texture bindings", 1, profiler.getTextureBindings());
+    }
+
+    /**
+     * A gameplay frame with the HUD's layer submitted amid the gameplay sprites, which drawn in submission order
+     * would flush three times, is drawn with one flush and one bind for the gameplay atlas, and one more of each
+     * for the HUD's layer.
+     */
+    @Test
+    public void gameplayFrameTakesTwoFlushes() {
+        submitGameplaySprites(0, SPRITES / 2);
+        hud.submitLayer(queue, 0f, 0f, VIEW_WIDTH, VIEW_HEIGHT);
+        submitGameplaySprites(SPRITES / 2, SPRITES);
+        renderFrame();
+        assertEquals("batch flushes", 2, batch.renderCalls);
+        assertEquals("texture bindings", 2, profiler.getTextureBindings());
+    }
+
+    /**
+     * Draws back on the stub GL, and disposes the HUD, the batch and the assets.
+     */
+    @AfterClass
+    public static void tearDown() {
+        profiler.disable();
+        hud.dispose();
+        batch.dispose();
+        assetsLoader.dispose();
+    }
+
+    /**
+     * Collects regions of every kind of gameplay sprite: mushroom and coin frames, the coin icon, player frames,
+     * hearts and digits.
+     */
+    private static void collectGameplayRegions() {
+        for (int i = 0; i < MAX_LIVES; i++) {
+            float time = i * FRAME_TIME;
+            GAMEPLAY_REGIONS.add(AssetsLoader.MushroomAssets.mushroomAnimation.getKeyFrame(time, true));
+            GAMEPLAY_REGIONS.add(assetsLoader.getCoinAnimation().getKeyFrame(time, true));
+        }
+        GAMEPLAY_REGIONS.add(AssetsLoader.CoinAssets.getCoinTexture());
+        for (PlayerMode mode : PlayerMode.values()) {
+            GAMEPLAY_REGIONS.add(assetsLoader.getPlayerFrame(mode, 0f));
+        }
+        GAMEPLAY_REGIONS.add(assetsLoader.getHeartRegion(true));
+        GAMEPLAY_REGIONS.add(assetsLoader.getHeartRegion(false));
+        GAMEPLAY_REGIONS.addAll(assetsLoader.getNumberTextures(COINS, new Array<TextureRegion>()));
+    }
+
+    /**
+     * Submits the gameplay regions in turn, alternating between the entity and player layers.
+     *
+     * @param from the index of the first sprite submitted
+     * @param to   the index after the last sprite submitted
+     */
+    private void submitGameplaySprites(final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            RenderLayer layer = i % 2 == 0 ? RenderLayer.PLAYER : RenderLayer.ENTITIES;
+            TextureRegion region = GAMEPLAY_REGIONS.get(i % GAMEPLAY_REGIONS.size);
+            queue.submit(layer, region, i * SPRITE_SIZE, 0f, SPRITE_SIZE, SPRITE_SIZE);
+        }
+    }
+
+    /**
+     * Draws the queue in one batch pass, as a level does.
+     */
+    private void renderFrame() {
+        batch.begin();
+        queue.flush(batch);
+        batch.end();
+    }
+
+    /**
+     * Headless graphics that hold the GL drawn on, so that a profiler can wrap it and swap it in and out.
+     */
+    private static final class ProfiledGraphics extends MockGraphics {
+        /**
+         * Returns the GL drawn on.
+         *
+         * @return the GL
+         */
+        @Override
+        public GL20 getGL20() {
+            return Gdx.gl20;
+        }
+
+        /**
+         * Draws on another GL from now on.
+         *
+         * @param gl20 the GL
+         */
+        @Override
+        public void setGL20(final GL20 gl20) {
+            Gdx.gl = gl20;
+            Gdx.gl20 = gl20;
+        }
+
+        /**
+         * Returns the string representation of ProfiledGraphics.
+         *
+         * @return a string
+         */
+        @Override
+        public String toString() {
+            return "ProfiledGraphics{" + "gl=" + Gdx.gl20 + '}';
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.toads.odyssey.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.sun.management.ThreadMXBean;
+import com.toads.odyssey.util.AssetsLoader;
+import com.toads.odyssey.view.Hud;
+import com.toads.odyssey.view.RenderQueue;
+import java.lang.management.ManagementFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks that a frame of the HUD allocates nothing, whether or not what it shows changed since the last frame.
+ * The frames are warmed up first, so that class loading and the growth of reused arrays are not counted, then every
+ * window of frames measured must allocate nothing. The tests run with only the client compiler, which allocates
+ * nothing on the test's thread while it compiles and removes no allocation by escape analysis, so what is
+ * measured is what the code itself allocates.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public class HudAllocationTest {
+    private static final int WARM_UP_FRAMES = 20000;
+    private static final int FRAMES = 10000;
+    private static final int WINDOWS = 10;
+    private static final int MAX_LIVES = 3;
+    private static final int MAX_COINS = 1000;
+    private static final float VIEW_WIDTH = 12.8f;
+    private static final float VIEW_HEIGHT = 7.2f;
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static AssetsLoader assetsLoader;
+    private static SpriteBatch batch;
+    private static Hud hud;
+    private static RenderQueue queue;
+
+    /**
+     * Loads the assets and creates the HUD on a stub GL.
+     */
+    @BeforeClass
+    public static void setUp() {
+        HeadlessEnvironment.init();
+        assetsLoader = AssetsLoader.getInstance();
+        assetsLoader.finishLoading();
+        batch = new SpriteBatch();
+        hud = new Hud(assetsLoader, batch);
+        queue = new RenderQueue();
+    }
+
+    /**
+     * A frame that only draws the cached layer allocates nothing.
+     */
+    @Test
+    public void unchangedFrameAllocatesNothing() {
+        hud.updateCoinCount(MAX_COINS / 2);
+        hud.setPaused(false);
+        for (int i = 0; i < WARM_UP_FRAMES; i++) {
+            renderFrame(MAX_LIVES - 1);
+        }
+        for (int w = 0; w < WINDOWS; w++) {
+            long before = allocatedBytes();
+            for (int i = 0; i < FRAMES; i++) {
+                renderFrame(MAX_LIVES - 1);
+            }
+            long allocated = allocatedBytes() - before;
+            assertEquals("bytes allocated by window " + w + " of " + FRAMES + " unchanged HUD frames", 0L, allocated);
+        }
+    }
+
+    /**
+     * A frame that lays the HUD out again and redraws its layer, because the coin count, the lives or the pause
+     * state changed, allocates nothing either.
+     */
+    @Test
+    public void changedFrameAllocatesNothing() {
+        for (int i = 0; i < WARM_UP_FRAMES; i++) {
+            renderChangedFrame(i);
+        }
+        for (int w = 0; w < WINDOWS; w++) {
+            long before = allocatedBytes();
+            for (int i = 0; i < FRAMES; i++) {
+                renderChangedFrame(i);
+            }
+            long allocated = allocatedBytes() - before;
+            assertEquals("bytes allocated by window " + w + " of " + FRAMES + " changed HUD frames", 0L, allocated);
+        }
+    }
+
+    /**
+     * Disposes the HUD, the batch and the assets.
+     */
+    @AfterClass
+    public static void tearDown() {
+        hud.dispose();
+        batch.dispose();
+        assetsLoader.dispose();
+    }
+
+    /**
+     * Changes the coin count, the lives and the pause state, then renders a frame.
+     *
+     * @param frame the index of the frame
+     */
+    private static void renderChangedFrame(final int frame) {
+        hud.updateCoinCount(frame % MAX_COINS);
+        hud.setPaused(frame % 2 == 0);
+        renderFrame(frame % (MAX_LIVES + 1));
+    }
+
+    /**
+     * Renders a frame of the HUD as a level does: refreshes the layer and draws it over the view.
+     *
+     * @param lives the player's lives
+     */
+    private static void renderFrame(final int lives) {
+        hud.refresh(lives, MAX_LIVES);
+        hud.submitLayer(queue, 0f, 0f, VIEW_WIDTH, VIEW_HEIGHT);
+        batch.begin();
+        queue.flush(batch);
+        batch.end();
+    }
+
+    /**
+     * Returns the number of bytes the test's thread allocated so far.
+     *
+     * @return the bytes allocated
+     */
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
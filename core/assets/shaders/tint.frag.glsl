@@ -0,0 +1,15 @@
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+varying vec4 v_color;
+varying vec2 v_texCoords;
+uniform sampler2D u_texture;
+// The color the frame is tinted towards, and how far in its alpha
+uniform vec4 u_tint;
+
+void main()
+{
+    vec4 color = v_color * texture2D(u_texture, v_texCoords);
+    gl_FragColor = vec4(mix(color.rgb, u_tint.rgb, u_tint.a), 1.0);
+}
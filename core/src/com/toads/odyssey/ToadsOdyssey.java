@@ -3,7 +3,8 @@ package com.toads.odyssey;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.toads.odyssey.util.AssetsLoader;
-import com.toads.odyssey.view.StartScreen;
+import com.toads.odyssey.util.LaunchOptions;
+import com.toads.odyssey.view.LoadingScreen;
 
 /**
  * The main class of the game.
@@ -25,6 +26,10 @@ public final class ToadsOdyssey extends Game {
      * The height of the screen.
      */
     public static final int SCREEN_HEIGHT = 720;
+    /**
+     * The options the game was launched with.
+     */
+    private final LaunchOptions options;
     /**
      * The batch of sprites.
      */
@@ -35,13 +40,29 @@ public final class ToadsOdyssey extends Game {
     private AssetsLoader assetsLoader;
 
     /**
-     * Creates the game.
+     * Constructs the game with the default options.
+     */
+    public ToadsOdyssey() {
+        this(new LaunchOptions());
+    }
+
+    /**
+     * Constructs the game.
+     *
+     * @param options the options the game was launched with
+     */
+    public ToadsOdyssey(final LaunchOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Creates the game, starting on the loading screen while the assets load.
      */
     @Override
     public void create() {
         batch = new SpriteBatch();
         assetsLoader = AssetsLoader.getInstance();
-        setScreen(new StartScreen(this));
+        setScreen(new LoadingScreen(this));
     }
 
     /**
@@ -57,6 +78,7 @@ public final class ToadsOdyssey extends Game {
      */
     @Override
     public void dispose() {
+        super.dispose();
         batch.dispose();
         assetsLoader.dispose();
     }
@@ -70,6 +92,15 @@ public final class ToadsOdyssey extends Game {
         return batch;
     }
 
+    /**
+     * Gets the options the game was launched with.
+     *
+     * @return the launch options
+     */
+    public LaunchOptions getOptions() {
+        return options;
+    }
+
     /**
      * A string representation of ToadsOdyssey.
      *
@@ -77,6 +108,7 @@ public final class ToadsOdyssey extends Game {
      */
     @Override
     public String toString() {
-        return "ToadsOdyssey{" + "batch=" + batch + ", assetsLoader=" + assetsLoader + ", screen=" + screen + '}';
+        return "ToadsOdyssey{" + "options=" + options + ", batch=" + batch + ", assetsLoader=" + assetsLoader
+                + ", screen=" + screen + '}';
     }
 }
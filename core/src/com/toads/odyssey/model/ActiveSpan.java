@@ -0,0 +1,106 @@
+package com.toads.odyssey.model;
+
+import com.badlogic.gdx.utils.Array;
+import com.toads.odyssey.util.XSortedIndex;
+
+/**
+ * Keeps the bodies of the entities near the player active and the others inactive.
+ * The span is the range of sorted positions of an {@link XSortedIndex}; only the entities entering or leaving it
+ * are touched when it moves.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+final class ActiveSpan {
+    private final XSortedIndex index;
+    private int from = 0;
+    private int to;
+
+    /**
+     * Constructs a span covering every entity, whose bodies are all active.
+     *
+     * @param index the index of the entities
+     */
+    ActiveSpan(final XSortedIndex index) {
+        this(index, true);
+    }
+
+    /**
+     * Constructs a span covering every entity if their bodies are all active, or none if they are all inactive.
+     *
+     * @param index  the index of the entities
+     * @param active true if the bodies of the entities are active
+     */
+    ActiveSpan(final XSortedIndex index, final boolean active) {
+        this.index = index;
+        if (active) {
+            to = index.getSize();
+        }
+    }
+
+    /**
+     * Moves the span and activates or deactivates the entities that entered or left it.
+     *
+     * @param entities the entities, by id
+     * @param minX     the left edge of the span
+     * @param maxX     the right edge of the span
+     */
+    void update(final Array<? extends Sleepable> entities, final float minX, final float maxX) {
+        int newFrom = index.from(minX);
+        int newTo = Math.max(newFrom, index.to(maxX));
+        for (int p = from; p < to; p++) {
+            if (p < newFrom || p >= newTo) {
+                entities.get(index.getId(p)).setActive(false);
+            }
+        }
+        for (int p = newFrom; p < newTo; p++) {
+            if (p < from || p >= to) {
+                entities.get(index.getId(p)).setActive(true);
+            }
+        }
+        from = newFrom;
+        to = newTo;
+    }
+
+    /**
+     * Deactivates every entity in the span and empties it, so that the next update activates the entities near the
+     * player whatever state their bodies were left in.
+     *
+     * @param entities the entities, by id
+     */
+    void clear(final Array<? extends Sleepable> entities) {
+        for (int p = from; p < to; p++) {
+            entities.get(index.getId(p)).setActive(false);
+        }
+        from = 0;
+        to = 0;
+    }
+
+    /**
+     * Returns the first sorted position of the span.
+     *
+     * @return the first position
+     */
+    int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the position after the last one of the span.
+     *
+     * @return the end position, exclusive
+     */
+    int getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the string representation of ActiveSpan.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "ActiveSpan{" + "index=" + index + ", from=" + from + ", to=" + to + '}';
+    }
+}
@@ -2,34 +2,30 @@ package com.toads.odyssey.model;
 
 import static com.toads.odyssey.ToadsOdyssey.PPM;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.utils.Array;
 
 /**
  * Represents a coin in the game, which the player can collect.
+ * The coin is the user data of its sensor fixture, so the contact listener can tell which coin the player touched.
  *
  * @author Joanne, Mika
  * @version 2023
  */
-public final class Coin {
+public final class Coin implements Sleepable {
     private static final float COIN_SIZE = 18;
     private static final float DENSITY = 1.0f;
     private static final float FRICTION = 0.5f;
     private static final float RESTITUTION = 0.2f;
-    private final Animation<TextureAtlas.AtlasRegion> animation;
     private final float width;
     private final float height;
     private final float x;
     private final float y;
-    private float stateTime = 0;
+    private final int id;
+    private final World world;
     private boolean collected = false;
     private int coinCount = 0;
     private int collectedCoins = 0;
@@ -38,18 +34,25 @@ public final class Coin {
     /**
      * Constructs a coin.
      *
-     * @param animation the animation of the coin
      * @param world     the Box2D world
      * @param x         the x coordinate of the coin
      * @param y         the y coordinate of the coin
+     * @param id        the index of the coin in its level
      */
-    public Coin(final Animation<TextureAtlas.AtlasRegion> animation, final World world,
-                final float x, final float y) {
-        this.animation = animation;
+    public Coin(final World world, final float x, final float y, final int id) {
         this.x = x;
         this.y = y;
+        this.id = id;
+        this.world = world;
         this.width = COIN_SIZE / PPM;
         this.height = COIN_SIZE / PPM;
+        createBody();
+    }
+
+    /**
+     * Creates the coin's sensor body.
+     */
+    private void createBody() {
         BodyDef coinBodyDef = new BodyDef();
         coinBodyDef.type = BodyDef.BodyType.StaticBody;
         coinBodyDef.position.set(x + width / 2, y + height / 2);
@@ -62,36 +65,15 @@ public final class Coin {
         fixtureDef.density = DENSITY;
         fixtureDef.friction = FRICTION;
         fixtureDef.restitution = RESTITUTION;
-        body.createFixture(fixtureDef);
+        body.createFixture(fixtureDef).setUserData(this);
         shape.dispose();
     }
 
     /**
-     * Checks if the player has collided with the coin.
-     *
-     * @param playerBody the player's body
-     * @return true if the player has collided with the coin, false otherwise
-     */
-    public boolean isCollision(final Body playerBody) {
-        if (playerBody != null && !collected) {
-            Array<Fixture> fixtures = playerBody.getFixtureList();
-            for (int i = 0; i < fixtures.size; i++) {
-                Fixture fixture = fixtures.get(i);
-                if (fixture.testPoint(x + width / 2, y + height / 2)) {
-                    collected = true;
-                    setCoinCount(getCoinCount() + 1);
-                    remove();
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Removes the coin from the world.
+     * Removes the coin from the world. Must not be called while the world is stepping.
      */
     public void remove() {
+        collected = true;
         if (body != null) {
             body.getWorld().destroyBody(body);
             body = null;
@@ -100,25 +82,83 @@ public final class Coin {
     }
 
     /**
-     * Updates the coin.
-     *
-     * @param deltaTime the time between frames
+     * Puts a collected coin back in the world, with its body inactive until it is near the player again.
+     * Must not be called while the world is stepping.
      */
-    public void update(final float deltaTime) {
-        stateTime += deltaTime;
+    public void restore() {
+        if (collected) {
+            collected = false;
+            createBody();
+            body.setActive(false);
+        }
     }
 
     /**
-     * Draws the coin if it has not been collected.
+     * Adds the coin's body to the world or takes it out. Does nothing once the coin is collected.
      *
-     * @param batch the sprite batch
+     * @param active true to add the body, false to take it out
      */
-    public void draw(final SpriteBatch batch) {
-        if (!collected) {
-            batch.draw(animation.getKeyFrame(stateTime, true), x, y, width, height);
+    @Override
+    public void setActive(final boolean active) {
+        if (body != null) {
+            body.setActive(active);
         }
     }
 
+    /**
+     * Returns true if the coin has been collected.
+     *
+     * @return true if the coin has been collected, false otherwise
+     */
+    public boolean isCollected() {
+        return collected;
+    }
+
+    /**
+     * Returns the index of the coin in its level.
+     *
+     * @return the index of the coin
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the x coordinate of the coin.
+     *
+     * @return the x coordinate of the coin
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y coordinate of the coin.
+     *
+     * @return the y coordinate of the coin
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Returns the width of the coin.
+     *
+     * @return the width of the coin
+     */
+    public float getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the coin.
+     *
+     * @return the height of the coin
+     */
+    public float getHeight() {
+        return height;
+    }
+
     /**
      * Returns the number of coins collected.
      *
@@ -169,8 +209,8 @@ public final class Coin {
     @Override
     public String toString() {
         return "Coin{"
-                + "animation=" + animation + ", width=" + width + ", height=" + height + ", x=" + x + ", y=" + y
-                + ", stateTime=" + stateTime + ", collected=" + collected + ", coinCount=" + coinCount
+                + "width=" + width + ", height=" + height + ", x=" + x + ", y=" + y + ", id=" + id
+                + ", collected=" + collected + ", coinCount=" + coinCount
                 + ", collectedCoins=" + collectedCoins + ", body=" + body + '}';
     }
 }
@@ -11,7 +11,10 @@ import com.badlogic.gdx.physics.box2d.World;
  */
 public abstract class Entity extends Sprite {
     private final World world;
+    private final Vector2 previousPosition = new Vector2();
+    private final Vector2 interpolatedPosition = new Vector2();
     private Vector2 spritePosition;
+    private float interpolationAlpha = 1f;
     /**
      * Constructor a game entity.
      * @param world the Box2D world
@@ -21,6 +24,7 @@ public abstract class Entity extends Sprite {
         this.world = world;
         this.spritePosition = spritePosition;
         define();
+        savePreviousPosition();
     }
     /**
      * Define the entity's physical properties.
@@ -31,6 +35,44 @@ public abstract class Entity extends Sprite {
      * @param delta the time between frames
      */
     public abstract void update(float delta);
+    /**
+     * Returns the current position of the entity's body.
+     * @return the position of the body
+     */
+    public abstract Vector2 getPosition();
+
+    /**
+     * Remembers the current body position as the previous physics state.
+     * Called before each physics step so rendering can interpolate between the two states.
+     */
+    public void savePreviousPosition() {
+        previousPosition.set(getPosition());
+    }
+
+    /**
+     * Sets how far rendering is between the previous and the current physics state.
+     * @param alpha the interpolation factor, between 0 and 1
+     */
+    public void setInterpolationAlpha(final float alpha) {
+        this.interpolationAlpha = alpha;
+    }
+
+    /**
+     * Returns the body position before the last physics step.
+     * @return the previous position
+     */
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
+    /**
+     * Returns the body position interpolated between the previous and the current physics state.
+     * The returned vector is reused between calls.
+     * @return the interpolated position
+     */
+    protected Vector2 getInterpolatedPosition() {
+        return interpolatedPosition.set(previousPosition).lerp(getPosition(), interpolationAlpha);
+    }
     /**
      * Returns the Box2D world.
      * @return the world
@@ -61,6 +103,7 @@ public abstract class Entity extends Sprite {
      */
     @Override
     public String toString() {
-        return "Entity{" + "world=" + world + ", spritePosition=" + spritePosition + '}';
+        return "Entity{" + "world=" + world + ", spritePosition=" + spritePosition + ", previousPosition="
+                + previousPosition + ", interpolationAlpha=" + interpolationAlpha + '}';
     }
 }
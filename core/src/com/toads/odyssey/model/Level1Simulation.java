@@ -0,0 +1,399 @@
+package com.toads.odyssey.model;
+
+import static com.toads.odyssey.ToadsOdyssey.PPM;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.toads.odyssey.util.LevelFile;
+import com.toads.odyssey.util.PlatformGeometry;
+import com.toads.odyssey.util.SimulationMapLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The simulation of the first level of the game.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class Level1Simulation extends LevelSimulation {
+    private static final String MAP_PATH = "maps/map.tmx";
+    private static final String LEVEL_PATH = "maps/map.lvl";
+    private static final float COIN_X_OFFSET = 4f;
+    private static final float COIN_Y_OFFSET = 5f;
+    private static final float COIN_SCALE = 2f;
+    private static final float PLATFORM_SCALE = 2f;
+    private static final float DOOR_SCALE = 2f;
+    private static final float FALL_ZONE_SCALE = 2f;
+    private static final float FALL_ZONE_OFFSET = 0.5f;
+    private static final float PLAYER_START_X = 42f / PPM;
+    private static final float PLAYER_START_Y = 400f / PPM;
+    private static final int LAYER_TASKS = 4;
+    private static final ExecutorService DESCRIBERS = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(LAYER_TASKS, Runtime.getRuntime().availableProcessors() - 1)), describerThreads());
+
+    /**
+     * Constructs the simulation of the first level, from its compiled level file if it has been compiled.
+     *
+     * @param mapLoader the loader used to read the level's map
+     */
+    public Level1Simulation(final TmxMapLoader mapLoader) {
+        this(mapLoader, findLevelFile());
+    }
+
+    /**
+     * Constructs the simulation of the first level.
+     *
+     * @param mapLoader the loader used to read the level's map
+     * @param levelFile the compiled level, or null to read the map
+     */
+    public Level1Simulation(final TmxMapLoader mapLoader, final FileHandle levelFile) {
+        super(mapLoader, levelFile);
+    }
+
+    /**
+     * Constructs the simulation of a level laid out like the first one, from a map already in memory.
+     *
+     * @param map the map of the level
+     */
+    public Level1Simulation(final TiledMap map) {
+        super(map);
+    }
+
+    /**
+     * Returns the compiled level file of the first level.
+     *
+     * @return the compiled level, or null if the level has not been compiled
+     */
+    private static FileHandle findLevelFile() {
+        FileHandle file = Gdx.files.internal(LEVEL_PATH);
+        if (file.exists()) {
+            return file;
+        }
+        return null;
+    }
+
+    /**
+     * Describes the objects of the first level's map in world units. The platforms are described on the calling
+     * thread while the other layers are described on the describer threads; each layer only adds to its own arrays
+     * of the description, and only reads its own objects of the map.
+     *
+     * @param map the map, with its object layers
+     * @return the objects of the level
+     */
+    public static LevelData describe(final TiledMap map) {
+        final LevelData data = new LevelData();
+        Array<Future<?>> tasks = new Array<>(LAYER_TASKS);
+        tasks.add(DESCRIBERS.submit(new Runnable() {
+            @Override
+            public void run() {
+                describeDoor(map, data);
+            }
+        }));
+        tasks.add(DESCRIBERS.submit(new Runnable() {
+            @Override
+            public void run() {
+                describeMushrooms(map, data);
+            }
+        }));
+        tasks.add(DESCRIBERS.submit(new Runnable() {
+            @Override
+            public void run() {
+                describeCoins(map, data);
+            }
+        }));
+        tasks.add(DESCRIBERS.submit(new Runnable() {
+            @Override
+            public void run() {
+                describeFallZones(map, data);
+            }
+        }));
+        try {
+            describePlatforms(map, data);
+        } finally {
+            awaitAll(tasks);
+        }
+        return data;
+    }
+
+    /**
+     * Waits for the layers described on the describer threads, whose writes are visible once their tasks are done.
+     *
+     * @param tasks the tasks describing the layers
+     */
+    private static void awaitAll(final Array<Future<?>> tasks) {
+        boolean interrupted = false;
+        RuntimeException failure = null;
+        for (int i = 0; i < tasks.size; i++) {
+            while (true) {
+                try {
+                    tasks.get(i).get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = new GdxRuntimeException("Could not describe the map", e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the factory of the daemon threads the layers are described on.
+     *
+     * @return the factory of the describer threads
+     */
+    private static ThreadFactory describerThreads() {
+        return new ThreadFactory() {
+            private int created = 0;
+
+            @Override
+            public synchronized Thread newThread(final Runnable runnable) {
+                Thread thread = new Thread(runnable, "Layer describer " + ++created);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * Describes the mushrooms.
+     *
+     * @param map  the map
+     * @param data the description of the level
+     */
+    private static void describeMushrooms(final TiledMap map, final LevelData data) {
+        MapLayer mushroomLayer = map.getLayers().get("mushroom");
+        for (MapObject object : mushroomLayer.getObjects()) {
+            if (object instanceof RectangleMapObject) {
+                Rectangle rectangle = ((RectangleMapObject) object).getRectangle();
+                float x = ((rectangle.x) * 2 / PPM);
+                float y = ((rectangle.y) / PPM) * 2;
+                float originalWidth = rectangle.width / PPM;
+                float originalHeight = rectangle.height / PPM;
+                data.addMushroom(x, y, originalWidth * 2, originalHeight * 2);
+            }
+        }
+    }
+
+    /**
+     * Describes the coins.
+     *
+     * @param map  the map
+     * @param data the description of the level
+     */
+    private static void describeCoins(final TiledMap map, final LevelData data) {
+        MapLayer coinLayer = map.getLayers().get("coins");
+        for (MapObject object : coinLayer.getObjects()) {
+            if (object instanceof RectangleMapObject) {
+                Rectangle rectangle = ((RectangleMapObject) object).getRectangle();
+                data.addCoin(((rectangle.x + COIN_X_OFFSET) * COIN_SCALE) / PPM,
+                        ((rectangle.y + COIN_Y_OFFSET) * COIN_SCALE) / PPM);
+            }
+        }
+    }
+
+    /**
+     * Describes the platforms, merging their polygons into as few chains as possible.
+     *
+     * @param map  the map
+     * @param data the description of the level
+     */
+    private static void describePlatforms(final TiledMap map, final LevelData data) {
+        MapLayer platformLayer = map.getLayers().get("objects");
+        PlatformGeometry geometry = new PlatformGeometry();
+        for (MapObject object : platformLayer.getObjects()) {
+            if (object instanceof PolygonMapObject) {
+                Polygon polygon = ((PolygonMapObject) object).getPolygon();
+                float x = (polygon.getX() * PLATFORM_SCALE) / PPM;
+                float y = (polygon.getY() * PLATFORM_SCALE) / PPM;
+                float[] vertices = polygon.getVertices().clone();
+                for (int i = 0; i < vertices.length; i += 2) {
+                    vertices[i] = x + (vertices[i] * 2) / PPM;
+                    vertices[i + 1] = y + (vertices[i + 1] * 2) / PPM;
+                }
+                geometry.addPolygon(vertices, 0, vertices.length);
+            }
+        }
+        geometry.compile(data);
+    }
+
+    /**
+     * Describes the door at the end of the level.
+     *
+     * @param map  the map
+     * @param data the description of the level
+     */
+    private static void describeDoor(final TiledMap map, final LevelData data) {
+        MapLayer doorLayer = map.getLayers().get("door");
+        for (MapObject object : doorLayer.getObjects()) {
+            if (object instanceof PolygonMapObject) {
+                Polygon polygon = ((PolygonMapObject) object).getPolygon();
+                float[] vertices = polygon.getTransformedVertices().clone();
+                for (int i = 0; i < vertices.length; i++) {
+                    vertices[i] = vertices[i] / PPM;
+                }
+                data.addDoor(polygon.getX() / PPM, polygon.getY() / PPM, vertices, 0, vertices.length);
+            }
+        }
+    }
+
+    /**
+     * Describes the fall zones.
+     *
+     * @param map  the map
+     * @param data the description of the level
+     */
+    private static void describeFallZones(final TiledMap map, final LevelData data) {
+        MapLayer fallZoneLayer = map.getLayers().get("death_zones");
+        for (MapObject object : fallZoneLayer.getObjects()) {
+            if (object instanceof RectangleMapObject) {
+                Rectangle rect = ((RectangleMapObject) object).getRectangle();
+                data.addDeathZone((rect.x + rect.width * FALL_ZONE_OFFSET) * DOOR_SCALE / PPM,
+                        (rect.y + rect.height * FALL_ZONE_OFFSET) * DOOR_SCALE / PPM,
+                        rect.width * FALL_ZONE_OFFSET * FALL_ZONE_SCALE / PPM,
+                        rect.height * FALL_ZONE_OFFSET * FALL_ZONE_SCALE / PPM);
+            }
+        }
+    }
+
+    /**
+     * Loads the map, from the compiled level if there is one. The tile layers are only created if the map loader
+     * would have read them. A map given to the simulation is only described.
+     */
+    @Override
+    protected void loadMap() {
+        if (map != null) {
+            levelData = describe(map);
+            return;
+        }
+        if (getLevelFile() == null) {
+            map = getMapLoader().load(MAP_PATH);
+            levelData = describe(map);
+            return;
+        }
+        LevelFile level = LevelFile.read(getLevelFile());
+        if (getMapLoader() instanceof SimulationMapLoader) {
+            map = new TiledMap();
+        } else {
+            map = level.createMap();
+        }
+        levelData = level.getData();
+    }
+
+    /**
+     * Loads the entities coin, mushroom, door, and fall zone.
+     */
+    @Override
+    protected void loadEntities() {
+        loadDoor();
+        loadMushrooms(world);
+        loadCoins(world);
+        loadFallZones();
+        player = new Player(world, new Vector2(PLAYER_START_X, PLAYER_START_Y));
+    }
+
+    /**
+     * Loads the mushrooms.
+     *
+     * @param world the Box2D world
+     */
+    private void loadMushrooms(final World world) {
+        FloatArray descriptors = levelData.getMushrooms();
+        for (int i = 0; i < descriptors.size; i += LevelData.MUSHROOM_STRIDE) {
+            mushrooms.add(new Mushroom(world, descriptors.get(i), descriptors.get(i + 1), descriptors.get(i + 2),
+                    descriptors.get(i + 3)));
+        }
+    }
+
+    /**
+     * Loads the coins.
+     *
+     * @param world the Box2D world
+     */
+    private void loadCoins(final World world) {
+        FloatArray descriptors = levelData.getCoins();
+        for (int i = 0; i < descriptors.size; i += LevelData.COIN_STRIDE) {
+            coins.add(new Coin(world, descriptors.get(i), descriptors.get(i + 1), coins.size));
+        }
+    }
+
+    /**
+     * Loads the door at the end of the level.
+     */
+    private void loadDoor() {
+        for (int i = 0; i < levelData.getDoorCount(); i++) {
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = BodyDef.BodyType.StaticBody;
+            bodyDef.position.set(levelData.getDoorPositions().get(i * 2), levelData.getDoorPositions().get(i * 2 + 1));
+            Body doorBody = world.createBody(bodyDef);
+            PolygonShape shape = new PolygonShape();
+            shape.set(levelData.getDoorVertices().items, levelData.getDoorStarts().get(i), levelData.getDoorLength(i));
+            FixtureDef fixtureDef = new FixtureDef();
+            fixtureDef.shape = shape;
+            Fixture fixture = doorBody.createFixture(fixtureDef);
+            fixture.setUserData("Door");
+            shape.dispose();
+        }
+    }
+
+    /**
+     * Loads the fall zones.
+     */
+    private void loadFallZones() {
+        BodyDef bodyDef = new BodyDef();
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.isSensor = true;
+        FloatArray descriptors = levelData.getDeathZones();
+        for (int i = 0; i < descriptors.size; i += LevelData.DEATH_ZONE_STRIDE) {
+            bodyDef.position.set(descriptors.get(i), descriptors.get(i + 1));
+            Body sensorBody = world.createBody(bodyDef);
+            PolygonShape shape = new PolygonShape();
+            shape.setAsBox(descriptors.get(i + 2), descriptors.get(i + 3));
+            fixtureDef.shape = shape;
+            sensorBody.createFixture(fixtureDef).setUserData("DeathZone");
+            shape.dispose();
+        }
+    }
+
+    /**
+     * A string representation of Level1Simulation.
+     *
+     * @return a string representation of Level1Simulation.
+     */
+    @Override
+    public String toString() {
+        return "Level1Simulation{" + "player=" + player + ", map=" + map + ", world=" + world + ", coins=" + coins
+                + ", mushrooms=" + mushrooms + '}';
+    }
+}
@@ -0,0 +1,247 @@
+package com.toads.odyssey.model;
+
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * The objects of a level, already scaled to world units, as primitive arrays.
+ * A level is described once, either from its TMX map or from its compiled level file, and its bodies are created
+ * from the description, so both sources give the same world.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class LevelData {
+    /**
+     * The number of floats describing a death zone: its center and half extents.
+     */
+    public static final int DEATH_ZONE_STRIDE = 4;
+    /**
+     * The number of floats describing a coin: its position.
+     */
+    public static final int COIN_STRIDE = 2;
+    /**
+     * The number of floats describing a mushroom: its position and size.
+     */
+    public static final int MUSHROOM_STRIDE = 4;
+    private final IntArray chainStarts = new IntArray();
+    private final BooleanArray chainLoops = new BooleanArray();
+    private final FloatArray chainVertices = new FloatArray();
+    private final FloatArray doorPositions = new FloatArray();
+    private final IntArray doorStarts = new IntArray();
+    private final FloatArray doorVertices = new FloatArray();
+    private final FloatArray deathZones = new FloatArray();
+    private final FloatArray coins = new FloatArray();
+    private final FloatArray mushrooms = new FloatArray();
+
+    /**
+     * Adds a platform chain. The platform chains all belong to one static body at the origin.
+     *
+     * @param vertices the vertices of the chain in world units, as x and y pairs
+     * @param offset   the index of the first vertex coordinate
+     * @param length   the number of vertex coordinates
+     * @param loop     true if the chain closes from its last vertex back to its first
+     */
+    public void addChain(final float[] vertices, final int offset, final int length, final boolean loop) {
+        chainStarts.add(chainVertices.size);
+        chainLoops.add(loop);
+        chainVertices.addAll(vertices, offset, length);
+    }
+
+    /**
+     * Adds a door polygon.
+     *
+     * @param x        the x coordinate of the door's body
+     * @param y        the y coordinate of the door's body
+     * @param vertices the vertices of the polygon, as x and y pairs
+     * @param offset   the index of the first vertex coordinate
+     * @param length   the number of vertex coordinates
+     */
+    public void addDoor(final float x, final float y, final float[] vertices, final int offset, final int length) {
+        doorPositions.add(x, y);
+        doorStarts.add(doorVertices.size);
+        doorVertices.addAll(vertices, offset, length);
+    }
+
+    /**
+     * Adds a death zone.
+     *
+     * @param x          the x coordinate of the zone's center
+     * @param y          the y coordinate of the zone's center
+     * @param halfWidth  half the width of the zone
+     * @param halfHeight half the height of the zone
+     */
+    public void addDeathZone(final float x, final float y, final float halfWidth, final float halfHeight) {
+        deathZones.add(x, y, halfWidth, halfHeight);
+    }
+
+    /**
+     * Adds a coin.
+     *
+     * @param x the x coordinate of the coin
+     * @param y the y coordinate of the coin
+     */
+    public void addCoin(final float x, final float y) {
+        coins.add(x, y);
+    }
+
+    /**
+     * Adds a mushroom.
+     *
+     * @param x      the x coordinate of the mushroom
+     * @param y      the y coordinate of the mushroom
+     * @param width  the width of the mushroom
+     * @param height the height of the mushroom
+     */
+    public void addMushroom(final float x, final float y, final float width, final float height) {
+        mushrooms.add(x, y, width, height);
+    }
+
+    /**
+     * Returns the number of platform chains.
+     *
+     * @return the number of chains
+     */
+    public int getChainCount() {
+        return chainStarts.size;
+    }
+
+    /**
+     * Returns true if a chain closes from its last vertex back to its first.
+     *
+     * @param chain the index of the chain
+     * @return true if the chain is a loop
+     */
+    public boolean isChainLoop(final int chain) {
+        return chainLoops.get(chain);
+    }
+
+    /**
+     * Returns the index in {@link #getChainVertices()} of the first vertex coordinate of each chain.
+     *
+     * @return the chain starts
+     */
+    public IntArray getChainStarts() {
+        return chainStarts;
+    }
+
+    /**
+     * Returns the vertices of every chain, one chain after the other.
+     *
+     * @return the chain vertices
+     */
+    public FloatArray getChainVertices() {
+        return chainVertices;
+    }
+
+    /**
+     * Returns the number of vertex coordinates of a chain.
+     *
+     * @param chain the index of the chain
+     * @return the number of coordinates
+     */
+    public int getChainLength(final int chain) {
+        return end(chainStarts, chain, chainVertices.size) - chainStarts.get(chain);
+    }
+
+    /**
+     * Returns the number of doors.
+     *
+     * @return the number of doors
+     */
+    public int getDoorCount() {
+        return doorStarts.size;
+    }
+
+    /**
+     * Returns the body positions of the doors, as x and y pairs.
+     *
+     * @return the door positions
+     */
+    public FloatArray getDoorPositions() {
+        return doorPositions;
+    }
+
+    /**
+     * Returns the index in {@link #getDoorVertices()} of the first vertex coordinate of each door.
+     *
+     * @return the door starts
+     */
+    public IntArray getDoorStarts() {
+        return doorStarts;
+    }
+
+    /**
+     * Returns the vertices of every door, one door after the other.
+     *
+     * @return the door vertices
+     */
+    public FloatArray getDoorVertices() {
+        return doorVertices;
+    }
+
+    /**
+     * Returns the number of vertex coordinates of a door.
+     *
+     * @param door the index of the door
+     * @return the number of coordinates
+     */
+    public int getDoorLength(final int door) {
+        return end(doorStarts, door, doorVertices.size) - doorStarts.get(door);
+    }
+
+    /**
+     * Returns the death zones, {@value #DEATH_ZONE_STRIDE} floats each.
+     *
+     * @return the death zones
+     */
+    public FloatArray getDeathZones() {
+        return deathZones;
+    }
+
+    /**
+     * Returns the coins, {@value #COIN_STRIDE} floats each.
+     *
+     * @return the coins
+     */
+    public FloatArray getCoins() {
+        return coins;
+    }
+
+    /**
+     * Returns the mushrooms, {@value #MUSHROOM_STRIDE} floats each.
+     *
+     * @return the mushrooms
+     */
+    public FloatArray getMushrooms() {
+        return mushrooms;
+    }
+
+    /**
+     * Returns where a run of vertices ends: at the start of the next run, or at the end of the vertices.
+     *
+     * @param starts the starts of the runs
+     * @param index  the index of the run
+     * @param size   the number of vertex coordinates
+     * @return the index after the last coordinate of the run
+     */
+    private static int end(final IntArray starts, final int index, final int size) {
+        if (index + 1 < starts.size) {
+            return starts.get(index + 1);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the string representation of LevelData.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "LevelData{" + "chains=" + chainStarts.size + ", doors=" + doorStarts.size + ", deathZones="
+                + deathZones.size / DEATH_ZONE_STRIDE + ", coins=" + coins.size / COIN_STRIDE + ", mushrooms="
+                + mushrooms.size / MUSHROOM_STRIDE + '}';
+    }
+}
@@ -0,0 +1,603 @@
+package com.toads.odyssey.model;
+
+import static com.toads.odyssey.ToadsOdyssey.PPM;
+import static com.toads.odyssey.ToadsOdyssey.SCREEN_WIDTH;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.Disposable;
+import com.toads.odyssey.util.CollisionDetection;
+import com.toads.odyssey.util.FramePhase;
+import com.toads.odyssey.util.FramePipeline;
+import com.toads.odyssey.util.FrameTask;
+import com.toads.odyssey.util.InputRecorder;
+import com.toads.odyssey.util.InputSource;
+import com.toads.odyssey.util.KeyboardInput;
+import com.toads.odyssey.util.LevelManager;
+import com.toads.odyssey.util.XSortedIndex;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The simulation part of a level: the map, the Box2D world and the entities living in it.
+ * It does not use any graphics resources, so it can run without a GL context.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public abstract class LevelSimulation implements Disposable {
+    private static final float GRAVITY_Y = -20f;
+    private static final float ORIGINAL_PLAYER_X = 100f / PPM;
+    private static final float ORIGINAL_PLAYER_Y = 400f / PPM;
+    private static final float RESPAWN_DELAY = 0.5f;
+    private static final float ACTIVE_HALF_WIDTH = SCREEN_WIDTH / PPM / 2;
+    private static final float ACTIVE_MARGIN = 2f;
+    private static final float PLATFORM_CHUNK_WIDTH = ACTIVE_HALF_WIDTH;
+    /**
+     * The player.
+     */
+    protected Player player;
+    /**
+     * The map.
+     */
+    protected TiledMap map;
+    /**
+     * The world.
+     */
+    protected World world;
+    /**
+     * The coins of the level, collected or not. Each coin's index is its id.
+     */
+    protected Array<Coin> coins;
+    /**
+     * The mushrooms.
+     */
+    protected Array<Mushroom> mushrooms;
+    /**
+     * The objects of the level, described when the map is loaded.
+     */
+    protected LevelData levelData;
+    private final TmxMapLoader mapLoader;
+    private final FileHandle levelFile;
+    private final FramePipeline pipeline;
+    private final XSortedIndex coinIndex;
+    private final XSortedIndex mushroomIndex;
+    private final XSortedIndex platformIndex;
+    private final ActiveSpan activeCoins;
+    private final ActiveSpan activeMushrooms;
+    private final ActiveSpan activePlatforms;
+    private final Array<PlatformChunk> platforms = new Array<>();
+    private final Bits collectedCoins = new Bits();
+    private final AtomicBoolean pauseRequested = new AtomicBoolean(false);
+    private InputSource input = new KeyboardInput();
+    private InputRecorder recorder;
+    private final Vector2 originalPlayerPosition;
+    private final Vector2 playerStart;
+    private int coinCount = 0;
+    private float respawnTimer = 0.0f;
+    private boolean awaitingRespawn = false;
+    private boolean paused = false;
+    private float elapsedTime = 0f;
+
+    /**
+     * Constructs the simulation of a level.
+     *
+     * @param mapLoader the loader used to read the level's map
+     */
+    public LevelSimulation(final TmxMapLoader mapLoader) {
+        this(mapLoader, null);
+    }
+
+    /**
+     * Constructs the simulation of a level, loaded from its compiled level file if it has one.
+     *
+     * @param mapLoader the loader used to read the level's map, and whose kind tells whether the tiles are needed
+     * @param levelFile the compiled level, or null to read the map
+     */
+    public LevelSimulation(final TmxMapLoader mapLoader, final FileHandle levelFile) {
+        this(mapLoader, levelFile, null);
+    }
+
+    /**
+     * Constructs the simulation of a level from a map already in memory, such as a generated one.
+     * The simulation owns the map and disposes of it.
+     *
+     * @param map the map of the level
+     */
+    public LevelSimulation(final TiledMap map) {
+        this(null, null, map);
+    }
+
+    /**
+     * Constructs the simulation of a level from whichever of its sources is given.
+     *
+     * @param mapLoader the loader used to read the level's map, or null if the map is given
+     * @param levelFile the compiled level, or null to read or use the map
+     * @param map       the map of the level, or null to load it
+     */
+    private LevelSimulation(final TmxMapLoader mapLoader, final FileHandle levelFile, final TiledMap map) {
+        this.mapLoader = mapLoader;
+        this.levelFile = levelFile;
+        this.map = map;
+        loadMap();
+        world = new World(new Vector2(0, GRAVITY_Y), true);
+        world.setContactListener(CollisionDetection.getInstance());
+        CollisionDetection.getInstance().getTouchedCoins().clear();
+        coins = new Array<>();
+        mushrooms = new Array<>();
+        loadEntities();
+        playerStart = new Vector2(player.getPosition());
+        coinIndex = new XSortedIndex(coins.size);
+        for (int i = 0; i < coins.size; i++) {
+            coinIndex.add(coins.get(i).getX(), coins.get(i).getWidth());
+        }
+        coinIndex.sort();
+        mushroomIndex = new XSortedIndex(mushrooms.size);
+        for (int i = 0; i < mushrooms.size; i++) {
+            mushroomIndex.add(mushrooms.get(i).getX(), mushrooms.get(i).getWidth());
+        }
+        mushroomIndex.sort();
+        PlatformChunk.split(levelData, world, PLATFORM_CHUNK_WIDTH, platforms);
+        platformIndex = new XSortedIndex(platforms.size);
+        for (int i = 0; i < platforms.size; i++) {
+            platformIndex.add(platforms.get(i).getX(), platforms.get(i).getWidth());
+        }
+        platformIndex.sort();
+        activeCoins = new ActiveSpan(coinIndex);
+        activeMushrooms = new ActiveSpan(mushroomIndex);
+        activePlatforms = new ActiveSpan(platformIndex, false);
+        LevelManager.getInstance().setLevel(this);
+        originalPlayerPosition = new Vector2(ORIGINAL_PLAYER_X, ORIGINAL_PLAYER_Y);
+        pipeline = new FramePipeline();
+        registerPhases(pipeline);
+        updateActiveSpans();
+    }
+
+    /**
+     * Loads the map, or only describes it if the simulation was given one.
+     */
+    protected abstract void loadMap();
+
+    /**
+     * Loads the entities. The platforms are not entities: their bodies are created from the chains of the level
+     * data, a chunk at a time, as the player nears them.
+     */
+    protected abstract void loadEntities();
+
+    /**
+     * Advances the simulation by running its own phases.
+     *
+     * @param deltaTime the time between frames
+     */
+    public void update(final float deltaTime) {
+        pipeline.run(deltaTime);
+    }
+
+    /**
+     * Registers the work of the simulation in the phases of a frame.
+     * The input is read once per physics tick, inside the physics phase. Only the ticks and their input advance
+     * while the simulation is paused.
+     *
+     * @param framePipeline the pipeline to register the simulation in
+     */
+    public void registerPhases(final FramePipeline framePipeline) {
+        framePipeline.register(FramePhase.PHYSICS, new FrameTask() {
+            @Override
+            public void run(final float delta) {
+                LevelManager.getInstance().update(delta);
+            }
+        });
+        framePipeline.register(FramePhase.CONTACTS, new FrameTask() {
+            @Override
+            public void run(final float delta) {
+                if (!paused) {
+                    handlePlayerFallen();
+                    handleMushroomHits();
+                    collectCoins();
+                }
+            }
+        });
+        framePipeline.register(FramePhase.LOGIC, new FrameTask() {
+            @Override
+            public void run(final float delta) {
+                if (!paused) {
+                    elapsedTime += delta;
+                    handleRespawn(delta);
+                    updateActiveSpans();
+                }
+            }
+        });
+        framePipeline.register(FramePhase.ANIMATION, new FrameTask() {
+            @Override
+            public void run(final float delta) {
+                if (!paused) {
+                    player.update(delta);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the pipeline {@link #update(float)} runs.
+     *
+     * @return the simulation's own frame pipeline
+     */
+    public FramePipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Restarts the level in place: the player is back at the start with all of their lives, every coin is back,
+     * the timers start over, and the bodies near the start are the active ones. The map, its
+     * description and the world are kept, so a restart costs about as much as moving the player across the level.
+     * Must not be called while the world is stepping.
+     */
+    public void restart() {
+        Player.resetLives();
+        player.reset(playerStart);
+        activeCoins.clear(coins);
+        for (int i = 0; i < coins.size; i++) {
+            coins.get(i).restore();
+        }
+        collectedCoins.clear();
+        CollisionDetection.getInstance().resetEvents();
+        pauseRequested.set(false);
+        paused = false;
+        coinCount = 0;
+        respawnTimer = 0f;
+        awaitingRespawn = false;
+        elapsedTime = 0f;
+        LevelManager.getInstance().setLevel(this);
+        updateActiveSpans();
+    }
+
+    /**
+     * Reads the input of one tick, records it if a recorder is set, and applies it.
+     */
+    public void applyTickInput() {
+        int buttons = input.poll();
+        if (pauseRequested.getAndSet(false)) {
+            buttons |= InputSource.PAUSE;
+        }
+        if (recorder != null) {
+            recorder.record(buttons);
+        }
+        if ((buttons & InputSource.PAUSE) != 0) {
+            setPaused(!paused);
+        }
+        player.applyInput(buttons);
+        player.handleKeyPressed();
+    }
+
+    /**
+     * Asks the simulation to pause or resume on its next tick. May be called from any thread.
+     */
+    public void requestPauseToggle() {
+        pauseRequested.set(true);
+    }
+
+    /**
+     * Sets where the input of each tick is read from.
+     *
+     * @param input the input source
+     */
+    public void setInputSource(final InputSource input) {
+        this.input = input;
+    }
+
+    /**
+     * Returns where the input of each tick is read from.
+     *
+     * @return the input source
+     */
+    public InputSource getInputSource() {
+        return input;
+    }
+
+    /**
+     * Sets the recorder the input of each tick is written to, or null to stop recording.
+     *
+     * @param recorder the input recorder
+     */
+    public void setInputRecorder(final InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Returns the recorder the input of each tick is written to.
+     *
+     * @return the input recorder, or null if the input is not recorded
+     */
+    public InputRecorder getInputRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Handles the player falling from the map.
+     */
+    private void handlePlayerFallen() {
+        if (CollisionDetection.getInstance().hasPlayerFallen() && !awaitingRespawn) {
+            Player.loseLife();
+            awaitingRespawn = true;
+            respawnTimer = 0.0f;
+            CollisionDetection.getInstance().resetPlayerFallen();
+        }
+    }
+
+    /**
+     * Applies the mushroom hits reported by the contact listener during the physics step.
+     */
+    private void handleMushroomHits() {
+        int hits = CollisionDetection.getInstance().consumeMushroomHits();
+        for (int i = 0; i < hits; i++) {
+            player.hitByMushroom(true);
+        }
+    }
+
+    /**
+     * Handles the player's respawn after falling.
+     *
+     * @param deltaTime the time between frames
+     */
+    private void handleRespawn(final float deltaTime) {
+        if (awaitingRespawn) {
+            respawnTimer += deltaTime;
+            if (respawnTimer >= RESPAWN_DELAY) {
+                if (Player.isAlive()) {
+                    player.resetPosition(originalPlayerPosition);
+                }
+                awaitingRespawn = false;
+            }
+        }
+    }
+
+    /**
+     * Keeps the bodies of the coins, mushrooms and platform chunks within a screen of the player, plus a margin, in
+     * the world, and the others out of it. The span follows the player the same way the camera does. The platform
+     * chunks outside the span have no body at all, so neither the world nor its step grows with the level's length.
+     */
+    private void updateActiveSpans() {
+        float center = Math.max(player.getBody().getPosition().x, ACTIVE_HALF_WIDTH);
+        float minX = center - ACTIVE_HALF_WIDTH - ACTIVE_MARGIN;
+        float maxX = center + ACTIVE_HALF_WIDTH + ACTIVE_MARGIN;
+        activeCoins.update(coins, minX, maxX);
+        activeMushrooms.update(mushrooms, minX, maxX);
+        activePlatforms.update(platforms, minX, maxX);
+    }
+
+    /**
+     * Collects the coins the player touched during the physics step and removes their bodies.
+     * The cost depends on the number of coins touched, not on the number of coins in the level.
+     */
+    private void collectCoins() {
+        Array<Coin> touched = CollisionDetection.getInstance().getTouchedCoins();
+        for (int i = 0; i < touched.size; i++) {
+            Coin coin = touched.get(i);
+            if (!collectedCoins.getAndSet(coin.getId())) {
+                coin.remove();
+                coinCount++;
+            }
+        }
+        touched.clear();
+    }
+
+    /**
+     * Pauses or resumes the simulation. A paused player does not respond to input.
+     *
+     * @param paused true to pause the simulation, false to resume it
+     */
+    public void setPaused(final boolean paused) {
+        this.paused = paused;
+        player.setCanMove(!paused);
+    }
+
+    /**
+     * Returns true if the simulation is paused.
+     *
+     * @return true if paused, false otherwise
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Returns true if the player has fallen and is waiting to respawn.
+     *
+     * @return true if the player is waiting to respawn, false otherwise
+     */
+    public boolean isAwaitingRespawn() {
+        return awaitingRespawn;
+    }
+
+    /**
+     * Returns the time the simulation has been updated for.
+     *
+     * @return the simulated time in seconds
+     */
+    public float getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Checks if the player has run out of lives.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return !Player.isAlive();
+    }
+
+    /**
+     * Checks if the player has reached the door at the end of the level.
+     *
+     * @return true if the game is won, false otherwise
+     */
+    public boolean isGameWon() {
+        return CollisionDetection.getInstance().isDoorReached();
+    }
+
+    /**
+     * Returns the loader used to read the level's map.
+     *
+     * @return the map loader
+     */
+    protected TmxMapLoader getMapLoader() {
+        return mapLoader;
+    }
+
+    /**
+     * Returns the compiled level the simulation is loaded from.
+     *
+     * @return the compiled level, or null if the map is read instead
+     */
+    protected FileHandle getLevelFile() {
+        return levelFile;
+    }
+
+    /**
+     * Returns the map.
+     *
+     * @return the map
+     */
+    public TiledMap getMap() {
+        return map;
+    }
+
+    /**
+     * Returns the world.
+     *
+     * @return the world
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Returns the player.
+     *
+     * @return the player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns every coin of the level, collected or not. The array does not change once the level is loaded.
+     *
+     * @return the coins
+     */
+    public Array<Coin> getCoins() {
+        return coins;
+    }
+
+    /**
+     * Returns the coins sorted by their left edge.
+     *
+     * @return the index of the coins
+     */
+    public XSortedIndex getCoinIndex() {
+        return coinIndex;
+    }
+
+    /**
+     * Returns the mushrooms sorted by their left edge.
+     *
+     * @return the index of the mushrooms
+     */
+    public XSortedIndex getMushroomIndex() {
+        return mushroomIndex;
+    }
+
+    /**
+     * Returns the number of coins whose bodies are active, collected coins included.
+     *
+     * @return the number of active coins
+     */
+    public int getActiveCoinCount() {
+        return activeCoins.getTo() - activeCoins.getFrom();
+    }
+
+    /**
+     * Returns the number of mushrooms whose bodies are active.
+     *
+     * @return the number of active mushrooms
+     */
+    public int getActiveMushroomCount() {
+        return activeMushrooms.getTo() - activeMushrooms.getFrom();
+    }
+
+    /**
+     * Returns the number of platform chunks whose bodies are in the world.
+     *
+     * @return the number of active platform chunks
+     */
+    public int getActivePlatformCount() {
+        return activePlatforms.getTo() - activePlatforms.getFrom();
+    }
+
+    /**
+     * Returns the number of platform chunks of the level.
+     *
+     * @return the number of platform chunks
+     */
+    public int getPlatformCount() {
+        return platforms.size;
+    }
+
+    /**
+     * Returns the ids of the coins collected.
+     *
+     * @return the collected coins, one bit per coin id
+     */
+    public Bits getCollectedCoins() {
+        return collectedCoins;
+    }
+
+    /**
+     * Returns the mushrooms.
+     *
+     * @return the mushrooms
+     */
+    public Array<Mushroom> getMushrooms() {
+        return mushrooms;
+    }
+
+    /**
+     * Returns the number of coins collected.
+     *
+     * @return the number of coins collected
+     */
+    public int getCoinCount() {
+        return coinCount;
+    }
+
+    /**
+     * Disposes the map and the world.
+     */
+    @Override
+    public void dispose() {
+        for (int i = 0; i < coins.size; i++) {
+            coins.get(i).dispose();
+        }
+        map.dispose();
+        world.dispose();
+    }
+
+    /**
+     * Returns the string representation of LevelSimulation.
+     *
+     * @return a string representation of LevelSimulation
+     */
+    @Override
+    public String toString() {
+        return "LevelSimulation{" + "player=" + player + ", map=" + map + ", world=" + world + ", coins=" + coins
+                + ", mushrooms=" + mushrooms + ", originalPlayerPosition=" + originalPlayerPosition
+                + ", coinCount=" + coinCount + ", respawnTimer=" + respawnTimer + ", awaitingRespawn="
+                + awaitingRespawn + ", paused=" + paused + ", elapsedTime=" + elapsedTime + ", input=" + input
+                + ", recorder=" + recorder + '}';
+    }
+}
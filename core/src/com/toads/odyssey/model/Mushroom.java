@@ -1,9 +1,5 @@
 package com.toads.odyssey.model;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
@@ -17,32 +13,27 @@ import com.badlogic.gdx.physics.box2d.World;
  * @author Joanne, Mika
  * @version 2023
  */
-public final class Mushroom {
+public final class Mushroom implements Sleepable {
     private static final float DENSITY = 1.0f;
     private static final float FRICTION = 0.5f;
     private static final float RESTITUTION = 0.2f;
-    private final Animation<TextureAtlas.AtlasRegion> animation;
     private final float width;
     private final float height;
     private final float x;
     private final float y;
     private final World world;
     private Body body;
-    private float stateTime = 0;
 
     /**
      * Constructs a mushroom.
      *
-     * @param animation the animation of the mushroom
      * @param world     the Box2D world
      * @param x         the x coordinate of the mushroom
      * @param y         the y coordinate of the mushroom
      * @param width     the width of the mushroom
      * @param height    the height of the mushroom
      */
-    public Mushroom(final Animation<TextureAtlas.AtlasRegion> animation, final World world, final float x,
-                    final float y, final float width, final float height) {
-        this.animation = animation;
+    public Mushroom(final World world, final float x, final float y, final float width, final float height) {
         this.world = world;
         this.x = x;
         this.y = y;
@@ -80,22 +71,49 @@ public final class Mushroom {
     }
 
     /**
-     * Updates the mushroom per unit of time.
+     * Adds the mushroom's body to the world or takes it out.
      *
-     * @param deltaTime the time between frames
+     * @param active true to add the body, false to take it out
      */
-    public void update(final float deltaTime) {
-        stateTime += deltaTime;
+    @Override
+    public void setActive(final boolean active) {
+        body.setActive(active);
+    }
+
+    /**
+     * Returns the x coordinate of the mushroom.
+     *
+     * @return the x coordinate of the mushroom
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y coordinate of the mushroom.
+     *
+     * @return the y coordinate of the mushroom
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Returns the width of the mushroom.
+     *
+     * @return the width of the mushroom
+     */
+    public float getWidth() {
+        return width;
     }
 
     /**
-     * Draws the mushroom.
+     * Returns the height of the mushroom.
      *
-     * @param batch the sprite batch
+     * @return the height of the mushroom
      */
-    public void draw(final SpriteBatch batch) {
-        TextureRegion currentFrame = animation.getKeyFrame(stateTime, true);
-        batch.draw(currentFrame, x, y, width, height);
+    public float getHeight() {
+        return height;
     }
 
     /**
@@ -105,7 +123,7 @@ public final class Mushroom {
      */
     @Override
     public String toString() {
-        return "Mushroom{" + "animation=" + animation + ", width=" + width + ", height=" + height + ", x=" + x
-                + ", y=" + y + ", world=" + world + ", body=" + body + ", stateTime=" + stateTime + '}';
+        return "Mushroom{" + "width=" + width + ", height=" + height + ", x=" + x
+                + ", y=" + y + ", world=" + world + ", body=" + body + '}';
     }
 }
@@ -0,0 +1,241 @@
+package com.toads.odyssey.model;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * The platform chains of a horizontal slice of a level, whose static body only exists while the slice is near the
+ * player. The chains are cut where their edges move from one slice to the next; each piece keeps the vertices on
+ * either side of it as ghost vertices, so the player slides over a cut as smoothly as over the whole chain.
+ * An edge belongs to the slice its left end lies in, and a slice spans all of its edges, so a long edge keeps its
+ * slice active for as long as any part of it is near the player.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+final class PlatformChunk implements Sleepable {
+    private static final int LOOP = 1;
+    private static final int PREVIOUS = 2;
+    private static final int NEXT = 4;
+    private final World world;
+    private final FloatArray vertices = new FloatArray();
+    private final IntArray starts = new IntArray();
+    private final IntArray flags = new IntArray();
+    private final FloatArray ghosts = new FloatArray();
+    private float left = Float.MAX_VALUE;
+    private float right = -Float.MAX_VALUE;
+    private Body body;
+
+    /**
+     * Constructs a slice with no chains and no body.
+     *
+     * @param world the Box2D world
+     */
+    private PlatformChunk(final World world) {
+        this.world = world;
+    }
+
+    /**
+     * Cuts the platform chains of a level into slices. No body is created until a slice is activated.
+     *
+     * @param data   the description of the level
+     * @param world  the Box2D world
+     * @param width  the width of a slice
+     * @param chunks the array the slices are added to, from left to right
+     */
+    static void split(final LevelData data, final World world, final float width, final Array<PlatformChunk> chunks) {
+        IntMap<PlatformChunk> slices = new IntMap<>();
+        float[] items = data.getChainVertices().items;
+        for (int i = 0; i < data.getChainCount(); i++) {
+            int start = data.getChainStarts().get(i);
+            int count = data.getChainLength(i) / 2;
+            boolean loop = data.isChainLoop(i);
+            int edges = loop ? count : count - 1;
+            int first = 0;
+            if (loop) {
+                while (first < edges && slice(items, start, count, first, width)
+                        == slice(items, start, count, first - 1 + count, width)) {
+                    first++;
+                }
+                if (first == edges) {
+                    getSlice(slices, slice(items, start, count, 0, width), world).addPiece(items, start, count,
+                            0, count - 1, LOOP);
+                    continue;
+                }
+            }
+            int run = first;
+            for (int e = first; e < first + edges; e++) {
+                int next = e + 1;
+                if (next == first + edges || slice(items, start, count, next, width)
+                        != slice(items, start, count, e, width)) {
+                    int pieceFlags = 0;
+                    if (loop || run > 0) {
+                        pieceFlags |= PREVIOUS;
+                    }
+                    if (loop || next < count - 1) {
+                        pieceFlags |= NEXT;
+                    }
+                    getSlice(slices, slice(items, start, count, e, width), world).addPiece(items, start, count,
+                            run, next, pieceFlags);
+                    run = next;
+                }
+            }
+        }
+        IntArray indices = slices.keys().toArray();
+        indices.sort();
+        for (int i = 0; i < indices.size; i++) {
+            chunks.add(slices.get(indices.get(i)));
+        }
+    }
+
+    /**
+     * Returns the index of the slice an edge of a chain belongs to: the slice its left end lies in.
+     *
+     * @param items the vertices of every chain
+     * @param start the index of the first coordinate of the chain
+     * @param count the number of vertices of the chain
+     * @param edge  the index of the edge, from its first vertex, wrapping around a loop
+     * @param width the width of a slice
+     * @return the index of the slice
+     */
+    private static int slice(final float[] items, final int start, final int count, final int edge,
+                             final float width) {
+        float x0 = items[start + edge % count * 2];
+        float x1 = items[start + (edge + 1) % count * 2];
+        return MathUtils.floor(Math.min(x0, x1) / width);
+    }
+
+    /**
+     * Returns a slice, creating it the first time.
+     *
+     * @param slices the slices created so far
+     * @param index  the index of the slice
+     * @param world  the Box2D world
+     * @return the slice
+     */
+    private static PlatformChunk getSlice(final IntMap<PlatformChunk> slices, final int index, final World world) {
+        PlatformChunk chunk = slices.get(index);
+        if (chunk == null) {
+            chunk = new PlatformChunk(world);
+            slices.put(index, chunk);
+        }
+        return chunk;
+    }
+
+    /**
+     * Adds the run of vertices of a chain from one vertex to another, wrapping around a loop.
+     *
+     * @param items      the vertices of every chain
+     * @param start      the index of the first coordinate of the chain
+     * @param count      the number of vertices of the chain
+     * @param from       the first vertex of the piece
+     * @param to         the last vertex of the piece
+     * @param pieceFlags whether the piece is a whole loop and whether it has a vertex before and after it
+     */
+    private void addPiece(final float[] items, final int start, final int count, final int from, final int to,
+                          final int pieceFlags) {
+        starts.add(vertices.size);
+        flags.add(pieceFlags);
+        for (int v = from; v <= to; v++) {
+            float x = items[start + v % count * 2];
+            vertices.add(x, items[start + v % count * 2 + 1]);
+            left = Math.min(left, x);
+            right = Math.max(right, x);
+        }
+        int previous = (from - 1 + count) % count;
+        int next = (to + 1) % count;
+        ghosts.add(items[start + previous * 2], items[start + previous * 2 + 1], items[start + next * 2],
+                items[start + next * 2 + 1]);
+    }
+
+    /**
+     * Creates the slice's body with a fixture for each piece, or destroys it.
+     *
+     * @param active true to create the body, false to destroy it
+     */
+    @Override
+    public void setActive(final boolean active) {
+        if (active && body == null) {
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = BodyDef.BodyType.StaticBody;
+            body = world.createBody(bodyDef);
+            FixtureDef fixtureDef = new FixtureDef();
+            for (int i = 0; i < starts.size; i++) {
+                int length = (i + 1 < starts.size ? starts.get(i + 1) : vertices.size) - starts.get(i);
+                ChainShape shape = new ChainShape();
+                if ((flags.get(i) & LOOP) != 0) {
+                    shape.createLoop(vertices.items, starts.get(i), length);
+                } else {
+                    shape.createChain(vertices.items, starts.get(i), length);
+                    if ((flags.get(i) & PREVIOUS) != 0) {
+                        shape.setPrevVertex(ghosts.get(i * 4), ghosts.get(i * 4 + 1));
+                    }
+                    if ((flags.get(i) & NEXT) != 0) {
+                        shape.setNextVertex(ghosts.get(i * 4 + 2), ghosts.get(i * 4 + 3));
+                    }
+                }
+                fixtureDef.shape = shape;
+                body.createFixture(fixtureDef).setUserData("Platform");
+                shape.dispose();
+            }
+        } else if (!active && body != null) {
+            world.destroyBody(body);
+            body = null;
+        }
+    }
+
+    /**
+     * Returns the left edge of the slice's chains.
+     *
+     * @return the leftmost x of the chains
+     */
+    float getX() {
+        return left;
+    }
+
+    /**
+     * Returns the width the slice's chains span.
+     *
+     * @return the width of the chains
+     */
+    float getWidth() {
+        return right - left;
+    }
+
+    /**
+     * Returns the number of chain pieces of the slice.
+     *
+     * @return the number of pieces
+     */
+    int getPieceCount() {
+        return starts.size;
+    }
+
+    /**
+     * Returns true if the slice's body is in the world.
+     *
+     * @return true if the slice is active
+     */
+    boolean isActive() {
+        return body != null;
+    }
+
+    /**
+     * Returns the string representation of PlatformChunk.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "PlatformChunk{" + "left=" + left + ", right=" + right + ", pieces=" + starts.size + ", active="
+                + (body != null) + '}';
+    }
+}
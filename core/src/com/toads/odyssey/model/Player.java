@@ -1,9 +1,5 @@
 package com.toads.odyssey.model;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -11,9 +7,9 @@ import com.badlogic.gdx.physics.box2d.CircleShape;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
 import com.toads.odyssey.ToadsOdyssey;
-import com.toads.odyssey.util.AssetsLoader;
 import com.toads.odyssey.util.CollisionDetection;
 import com.toads.odyssey.util.Constants;
+import com.toads.odyssey.util.InputSource;
 
 /**
  * Represents the player.
@@ -26,6 +22,10 @@ public final class Player extends Entity {
      * Default number of lives of the player.
      */
     private static int lives = Constants.DEFAULT_LIVES;
+    /**
+     * How long the hurt animation plays before the player returns to idle.
+     */
+    private static final float HURT_DURATION = Constants.FOUR * Constants.SLOWER_FRAME_DURATION;
     private Body body;
     private PlayerMode currentState;
     private PlayerMode previousState;
@@ -34,6 +34,9 @@ public final class Player extends Entity {
     private float maxJumpHeight;
     private boolean canMove = true;
     private boolean isHit;
+    private boolean leftPressed;
+    private boolean rightPressed;
+    private boolean upPressed;
 
     /**
      * Constructs a player entity.
@@ -48,7 +51,6 @@ public final class Player extends Entity {
         stateTimer = 0;
         moveRight = true;
         setBounds(0, 0, Constants.THIRTY_TWO / ToadsOdyssey.PPM, Constants.THIRTY_TWO / ToadsOdyssey.PPM);
-        setRegion(AssetsLoader.getInstance().getPlayerAssets().idleAnimation.getKeyFrame(stateTimer, true));
         isHit = false;
     }
 
@@ -64,6 +66,13 @@ public final class Player extends Entity {
         }
     }
 
+    /**
+     * Gives the player back all of their lives.
+     */
+    public static void resetLives() {
+        lives = Constants.DEFAULT_LIVES;
+    }
+
     /**
      * Checks if the player is alive.
      *
@@ -99,8 +108,9 @@ public final class Player extends Entity {
     public void update(final float delta) {
         if (canMove) {
             setSpritePosition(body.getPosition());
-            setPosition(body.getPosition().x - getWidth() / 2, body.getPosition().y - getHeight() / 2);
-            setRegion(getFrame(delta));
+            Vector2 position = getInterpolatedPosition();
+            setPosition(position.x - getWidth() / 2, position.y - getHeight() / 2);
+            updateState(delta);
             setJumpHeightLimit();
         }
     }
@@ -117,65 +127,31 @@ public final class Player extends Entity {
     }
 
     /**
-     * Returns the animation frame of the player per unit time.
+     * Updates the animation state of the player per unit time.
      * @param delta the time between frames
-     * @return the animation frame of the player.
      */
-    private TextureRegion getFrame(final float delta) {
+    private void updateState(final float delta) {
         currentState = getState();
-        TextureRegion region = getCurrentAnimationFrame();
-        flipPlayerTextureOnDirection(region);
+        if (currentState == PlayerMode.HIT && stateTimer >= HURT_DURATION) {
+            isHit = false;
+            currentState = PlayerMode.IDLE;
+        }
+        updateDirection();
         if (currentState == previousState) {
             stateTimer += delta;
         } else {
             stateTimer = 0;
         }
         previousState = currentState;
-        return region;
-    }
-
-    /**
-     * Returns the current frame of the player based on player's movement.
-     * @return the current animation frame of the player as a TextureRegion.
-     */
-    private TextureRegion getCurrentAnimationFrame() {
-        switch (currentState) {
-            case HIT:
-                return handleHitState();
-            case MOVE:
-                return AssetsLoader.getInstance().getPlayerAssets().moveAnimation.getKeyFrame(stateTimer, true);
-            case JUMP:
-                return AssetsLoader.getInstance().getPlayerAssets().jumpAnimation.getKeyFrame(stateTimer, true);
-            case IDLE:
-            default:
-                return AssetsLoader.getInstance().getPlayerAssets().idleAnimation.getKeyFrame(stateTimer, true);
-        }
     }
 
     /**
-     * Handles the player's state when hit by a mushroom.
-     * @return the animation frame of the player when hit by a mushroom.
+     * Updates the direction the player is facing based on its horizontal velocity.
      */
-    private TextureRegion handleHitState() {
-        TextureRegion region = AssetsLoader.getInstance().getPlayerHurtAssets().hurtAnimation.getKeyFrame(stateTimer,
-                false);
-        if (AssetsLoader.getInstance().getPlayerHurtAssets().hurtAnimation.isAnimationFinished(stateTimer)) {
-            isHit = false;
-            currentState = PlayerMode.IDLE;
-        }
-        return region;
-    }
-
-    /**
-     * Flips the player's texture if it is not facing the same direction that it is moving.
-     * @param region the texture of the player.
-     */
-    private void flipPlayerTextureOnDirection(final TextureRegion region) {
-        if ((body.getLinearVelocity().x > 0 || moveRight) && !region.isFlipX()) {
-            region.flip(true, false);
+    private void updateDirection() {
+        if (body.getLinearVelocity().x > 0) {
             moveRight = true;
-        } else if ((body.getLinearVelocity().x < 0 || !moveRight) && region.isFlipX()) {
-            region.flip(true, false);
+        } else if (body.getLinearVelocity().x < 0) {
             moveRight = false;
         }
     }
@@ -203,20 +179,29 @@ public final class Player extends Entity {
      *
      * @return the position of the player as a Vector2.
      */
+    @Override
     public Vector2 getPosition() {
         return body.getPosition();
     }
 
     /**
-     * Handles the key pressed event.
+     * Sets the buttons held during the current tick.
+     *
+     * @param buttons the buttons held, as a combination of the bits of {@link InputSource}
+     */
+    public void applyInput(final int buttons) {
+        leftPressed = (buttons & InputSource.LEFT) != 0;
+        rightPressed = (buttons & InputSource.RIGHT) != 0;
+        upPressed = (buttons & InputSource.UP) != 0;
+    }
+
+    /**
+     * Handles the key pressed event, using the buttons given to {@link #applyInput(int)}.
      */
     public void handleKeyPressed() {
         if (!canMove) {
             return;
         }
-        boolean leftPressed = Gdx.input.isKeyPressed(Input.Keys.LEFT);
-        boolean rightPressed = Gdx.input.isKeyPressed(Input.Keys.RIGHT);
-        boolean upPressed = Gdx.input.isKeyPressed(Input.Keys.UP);
         boolean isOnGround = CollisionDetection.getInstance().isOnGround();
         if (upPressed && isOnGround) {
             float startJumpY = body.getPosition().y;
@@ -234,22 +219,39 @@ public final class Player extends Entity {
     }
 
     /**
-     * Draws the player.
+     * Returns the body of the player.
      *
-     * @param batch the batch to draw the player.
+     * @return the body of the player.
      */
-    public void draw(final SpriteBatch batch) {
-        update(Gdx.graphics.getDeltaTime());
-        super.draw(batch);
+    public Body getBody() {
+        return body;
     }
 
     /**
-     * Returns the body of the player.
+     * Returns the animation state of the player.
      *
-     * @return the body of the player.
+     * @return the animation state of the player.
      */
-    public Body getBody() {
-        return body;
+    public PlayerMode getCurrentState() {
+        return currentState;
+    }
+
+    /**
+     * Returns how long the player has been in its current animation state.
+     *
+     * @return the state time of the player.
+     */
+    public float getStateTimer() {
+        return stateTimer;
+    }
+
+    /**
+     * Checks if the player is facing right.
+     *
+     * @return true if the player is facing right, false otherwise.
+     */
+    public boolean isFacingRight() {
+        return moveRight;
     }
 
     /**
@@ -269,6 +271,29 @@ public final class Player extends Entity {
     public void resetPosition(final Vector2 newPosition) {
         body.setTransform(newPosition, 0);
         body.setLinearVelocity(0, 0);
+        savePreviousPosition();
+    }
+
+    /**
+     * Puts the player back at a position as they were when the level started: standing still, facing right, not
+     * hurt and free to move.
+     *
+     * @param position the position to put the player at
+     */
+    public void reset(final Vector2 position) {
+        resetPosition(position);
+        body.setAngularVelocity(0);
+        body.setAwake(true);
+        currentState = PlayerMode.IDLE;
+        previousState = PlayerMode.IDLE;
+        stateTimer = 0;
+        moveRight = true;
+        maxJumpHeight = 0;
+        canMove = true;
+        isHit = false;
+        leftPressed = false;
+        rightPressed = false;
+        upPressed = false;
     }
 
     /**
@@ -310,6 +335,7 @@ public final class Player extends Entity {
     public String toString() {
         return "Player{" + "body=" + body + ", currentState=" + currentState + ", previousState=" + previousState
                 + ", stateTimer=" + stateTimer + ", moveRight=" + moveRight + ", maxJumpHeight=" + maxJumpHeight
-                + ", canMove=" + canMove + ", isHit=" + isHit + '}';
+                + ", canMove=" + canMove + ", isHit=" + isHit + ", leftPressed=" + leftPressed + ", rightPressed="
+                + rightPressed + ", upPressed=" + upPressed + '}';
     }
 }
@@ -0,0 +1,227 @@
+package com.toads.odyssey.model;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+
+/**
+ * The state of a level simulation at the end of a step, as needed to render it.
+ * A snapshot is written by the simulation and only read by the renderer once it has been published,
+ * so the renderer never touches the Box2D world or the live entities.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class SimulationSnapshot {
+    private final Bits collectedCoins = new Bits();
+    private Array<Coin> coins;
+    private float playerX;
+    private float playerY;
+    private float previousPlayerX;
+    private float previousPlayerY;
+    private PlayerMode playerMode = PlayerMode.IDLE;
+    private float playerStateTime;
+    private boolean playerFacingRight = true;
+    private int lives;
+    private int coinCount;
+    private float animationTime;
+    private float alpha = 1f;
+    private long capturedAt;
+    private boolean playerFallen;
+    private boolean doorReached;
+    private boolean gameOver;
+    private boolean paused;
+
+    /**
+     * Copies the current state of the simulation into this snapshot.
+     *
+     * @param simulation the simulation to capture
+     * @param interpolationAlpha how far the simulation is between its previous and current step
+     */
+    void capture(final LevelSimulation simulation, final float interpolationAlpha) {
+        Player player = simulation.getPlayer();
+        Vector2 position = player.getPosition();
+        Vector2 previousPosition = player.getPreviousPosition();
+        playerX = position.x;
+        playerY = position.y;
+        previousPlayerX = previousPosition.x;
+        previousPlayerY = previousPosition.y;
+        playerMode = player.getCurrentState();
+        playerStateTime = player.getStateTimer();
+        playerFacingRight = player.isFacingRight();
+        lives = player.getLives();
+        coinCount = simulation.getCoinCount();
+        animationTime = simulation.getElapsedTime();
+        alpha = interpolationAlpha;
+        capturedAt = System.nanoTime();
+        playerFallen = simulation.isAwaitingRespawn();
+        doorReached = simulation.isGameWon();
+        gameOver = simulation.isGameOver();
+        paused = simulation.isPaused();
+        coins = simulation.getCoins();
+        collectedCoins.clear();
+        collectedCoins.or(simulation.getCollectedCoins());
+    }
+
+    /**
+     * Returns the x coordinate of the player interpolated between the last two steps.
+     *
+     * @param interpolationAlpha the interpolation factor, between 0 and 1
+     * @return the interpolated x coordinate of the player's body
+     */
+    public float getPlayerX(final float interpolationAlpha) {
+        return previousPlayerX + (playerX - previousPlayerX) * interpolationAlpha;
+    }
+
+    /**
+     * Returns the y coordinate of the player interpolated between the last two steps.
+     *
+     * @param interpolationAlpha the interpolation factor, between 0 and 1
+     * @return the interpolated y coordinate of the player's body
+     */
+    public float getPlayerY(final float interpolationAlpha) {
+        return previousPlayerY + (playerY - previousPlayerY) * interpolationAlpha;
+    }
+
+    /**
+     * Returns the animation state of the player.
+     *
+     * @return the animation state of the player
+     */
+    public PlayerMode getPlayerMode() {
+        return playerMode;
+    }
+
+    /**
+     * Returns how long the player has been in its current animation state.
+     *
+     * @return the state time of the player
+     */
+    public float getPlayerStateTime() {
+        return playerStateTime;
+    }
+
+    /**
+     * Returns true if the player is facing right.
+     *
+     * @return true if the player is facing right, false otherwise
+     */
+    public boolean isPlayerFacingRight() {
+        return playerFacingRight;
+    }
+
+    /**
+     * Returns the number of lives of the player.
+     *
+     * @return the number of lives
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * Returns the number of coins collected.
+     *
+     * @return the number of coins collected
+     */
+    public int getCoinCount() {
+        return coinCount;
+    }
+
+    /**
+     * Returns every coin of the level. The array is not modified by the simulation once the level is loaded, so it
+     * is shared rather than copied; use {@link #isCoinCollected(int)} to know which coins were still in the level.
+     *
+     * @return the coins of the level
+     */
+    public Array<Coin> getCoins() {
+        return coins;
+    }
+
+    /**
+     * Returns true if the coin had been collected when the snapshot was taken.
+     *
+     * @param id the id of the coin
+     * @return true if the coin was collected, false otherwise
+     */
+    public boolean isCoinCollected(final int id) {
+        return collectedCoins.get(id);
+    }
+
+    /**
+     * Returns the time the simulation has been running, used to pick the frames of the level's animations.
+     *
+     * @return the simulated time in seconds
+     */
+    public float getAnimationTime() {
+        return animationTime;
+    }
+
+    /**
+     * Returns the interpolation factor the simulation reported when the snapshot was taken.
+     *
+     * @return the interpolation factor, between 0 and 1
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Returns when the snapshot was taken, as given by {@link System#nanoTime()}.
+     *
+     * @return the capture time in nanoseconds
+     */
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * Returns true if the player has fallen and is waiting to respawn.
+     *
+     * @return true if the player has fallen, false otherwise
+     */
+    public boolean isPlayerFallen() {
+        return playerFallen;
+    }
+
+    /**
+     * Returns true if the player has reached the door.
+     *
+     * @return true if the door is reached, false otherwise
+     */
+    public boolean isDoorReached() {
+        return doorReached;
+    }
+
+    /**
+     * Returns true if the player has run out of lives.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns true if the simulation was paused.
+     *
+     * @return true if the simulation was paused, false otherwise
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Returns the string representation of SimulationSnapshot.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "SimulationSnapshot{" + "playerX=" + playerX + ", playerY=" + playerY + ", playerMode=" + playerMode
+                + ", playerStateTime=" + playerStateTime + ", playerFacingRight=" + playerFacingRight + ", lives="
+                + lives + ", coinCount=" + coinCount + ", animationTime="
+                + animationTime + ", playerFallen=" + playerFallen + ", doorReached=" + doorReached
+                + ", gameOver=" + gameOver + ", paused=" + paused + '}';
+    }
+}
@@ -0,0 +1,112 @@
+package com.toads.odyssey.model;
+
+import com.badlogic.gdx.Gdx;
+import com.toads.odyssey.util.Constants;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Steps a level simulation on its own thread at the fixed physics rate.
+ * After each step the state is published to a {@link SnapshotBuffer}, so the rendering thread never waits for
+ * the simulation and the simulation never waits for rendering.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class SimulationThread implements Runnable {
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    private static final long STEP_NANOS = (long) (Constants.TIME_STEP * NANOS_PER_SECOND);
+    private static final long MAX_LAG_NANOS = (long) (Constants.MAX_FRAME_TIME * NANOS_PER_SECOND);
+    private final LevelSimulation simulation;
+    private final SnapshotBuffer snapshots;
+    private final Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Constructs a simulation thread.
+     *
+     * @param simulation the simulation to step
+     * @param snapshots  the buffer the snapshots are published to
+     */
+    public SimulationThread(final LevelSimulation simulation, final SnapshotBuffer snapshots) {
+        this.simulation = simulation;
+        this.snapshots = snapshots;
+        thread = new Thread(this, "Simulation");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts stepping the simulation.
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Stops stepping the simulation and waits for the current step to finish.
+     * Once this returns the simulation may be used or disposed from the calling thread.
+     */
+    public void stop() {
+        running = false;
+        if (thread.isAlive() && Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Steps the simulation until stopped.
+     */
+    @Override
+    public void run() {
+        long nextStep = System.nanoTime();
+        try {
+            while (running) {
+                long now = System.nanoTime();
+                if (now - nextStep > MAX_LAG_NANOS) {
+                    nextStep = now;
+                }
+                while (nextStep <= now && running) {
+                    step();
+                    nextStep += STEP_NANOS;
+                }
+                LockSupport.parkNanos(nextStep - System.nanoTime());
+            }
+        } catch (RuntimeException e) {
+            running = false;
+            Gdx.app.error("SimulationThread", "Simulation stopped", e);
+        }
+    }
+
+    /**
+     * Runs one step of the simulation and publishes its snapshot.
+     * The step also runs while the simulation is paused, so that it keeps reading the input that resumes it.
+     */
+    private void step() {
+        simulation.update(Constants.TIME_STEP);
+        snapshots.publish(simulation, 1f);
+    }
+
+    /**
+     * Returns true if the simulation thread is stepping.
+     *
+     * @return true if running, false otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the string representation of SimulationThread.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "SimulationThread{" + "simulation=" + simulation + ", snapshots=" + snapshots + ", running="
+                + running + '}';
+    }
+}
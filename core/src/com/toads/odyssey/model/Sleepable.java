@@ -0,0 +1,16 @@
+package com.toads.odyssey.model;
+
+/**
+ * An entity whose Box2D body can be taken out of the world while it is far from the player.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public interface Sleepable {
+    /**
+     * Adds the entity's body to the world or takes it out. Must not be called while the world is stepping.
+     *
+     * @param active true to add the body, false to take it out
+     */
+    void setActive(boolean active);
+}
@@ -0,0 +1,65 @@
+package com.toads.odyssey.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands simulation snapshots from the simulation to the renderer without locks.
+ * The snapshots are double-buffered between the writer and the reader, with a third slot in the middle so that
+ * the writer never overwrites the snapshot the reader is drawing, and neither side ever waits for the other.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class SnapshotBuffer {
+    private static final int SLOTS = 3;
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+    private final SimulationSnapshot[] snapshots = new SimulationSnapshot[SLOTS];
+    private final AtomicInteger ready = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    /**
+     * Constructs a snapshot buffer.
+     */
+    public SnapshotBuffer() {
+        for (int i = 0; i < SLOTS; i++) {
+            snapshots[i] = new SimulationSnapshot();
+        }
+    }
+
+    /**
+     * Captures the simulation into the back snapshot and makes it the latest one.
+     * Must only be called from the thread stepping the simulation.
+     *
+     * @param simulation the simulation to capture
+     * @param alpha      how far the simulation is between its previous and current step
+     */
+    public void publish(final LevelSimulation simulation, final float alpha) {
+        snapshots[back].capture(simulation, alpha);
+        back = ready.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Returns the latest published snapshot.
+     * Must only be called from the rendering thread; the snapshot stays valid until the next call.
+     *
+     * @return the latest snapshot
+     */
+    public SimulationSnapshot acquire() {
+        if ((ready.get() & FRESH) != 0) {
+            front = ready.getAndSet(front) & INDEX_MASK;
+        }
+        return snapshots[front];
+    }
+
+    /**
+     * Returns the string representation of SnapshotBuffer.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "SnapshotBuffer{" + "back=" + back + ", ready=" + ready + ", front=" + front + '}';
+    }
+}
@@ -0,0 +1,42 @@
+package com.toads.odyssey.util;
+
+/**
+ * The groups the assets of the game are loaded in, in the order they are loaded.
+ * Every group is queued when the {@link AssetsLoader} is created; the cutscenes are not asset groups, they are
+ * streamed by frame.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public enum AssetGroup {
+    /**
+     * The sprites of the levels and the HUD, merged into a single page.
+     */
+    GAMEPLAY(new String[] {Constants.GAMEPLAY_ATLAS_PATH}, new String[0]);
+
+    private final String[] atlasPaths;
+    private final String[] texturePaths;
+
+    AssetGroup(final String[] atlasPaths, final String[] texturePaths) {
+        this.atlasPaths = atlasPaths;
+        this.texturePaths = texturePaths;
+    }
+
+    /**
+     * Returns the paths of the texture atlases of the group.
+     *
+     * @return the atlas paths
+     */
+    public String[] getAtlasPaths() {
+        return atlasPaths.clone();
+    }
+
+    /**
+     * Returns the paths of the textures of the group.
+     *
+     * @return the texture paths
+     */
+    public String[] getTexturePaths() {
+        return texturePaths.clone();
+    }
+}
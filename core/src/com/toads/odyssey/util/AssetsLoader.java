@@ -1,65 +1,217 @@
 package com.toads.odyssey.util;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.TextureAtlasLoader;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongArray;
+import com.toads.odyssey.model.PlayerMode;
+import java.util.Comparator;
+import java.util.Locale;
 
 /**
  * A singleton class that loads all the assets for the game.
+ * The assets are queued by {@link AssetGroup}, in priority order, and loaded a little every frame by
+ * {@link #update(int)} within a time budget, so the window keeps drawing while they are decoded. The time spent
+ * loading each asset on the rendering thread is recorded to see which files dominate startup.
+ * <p>
+ * Every group is queued at startup and kept for the session. The cutscenes are not loaded here; their frames are
+ * streamed by the screens that play them.
  *
  * @author Mika, Joanne
  * @version 2023
  */
 public final class AssetsLoader implements Disposable {
+    private static final String TAG = "Assets";
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final int DIGITS = 10;
     /**
      * An AssetsLoader instance.
      */
-    private static final AssetsLoader LOADER = new AssetsLoader();
-    private final PlayerAssets playerAssets;
-    private final CoinAssets coinAssets;
-    private final IntroScreenAssets introScreenAssets;
-    private final GameOverScreenAssets gameOverScreenAssets;
-    private final GameWonScreenAssets gameWonScreenAssets;
-    private final TextureAtlas numberAtlas;
-    private final MushroomAssets mushroomAssets;
+    private static AssetsLoader loader;
     private final AssetManager manager;
-    private final Texture fullHeartTexture;
-    private final Texture emptyHeartTexture;
-    private final PlayerHurtAssets playerHurtAssets;
+    private final Array<String> timedAssets = new Array<>();
+    private final LongArray assetNanos = new LongArray();
+    private final TextureAtlasLoader.TextureAtlasParameter atlasParameter;
+    private final TextureLoader.TextureParameter textureParameter;
+    private PlayerAssets playerAssets;
+    private CoinAssets coinAssets;
+    private TextureAtlas gameplayAtlas;
+    private MushroomAssets mushroomAssets;
+    private TextureRegion fullHeartRegion;
+    private TextureRegion emptyHeartRegion;
+    private final TextureRegion[] digitRegions = new TextureRegion[DIGITS];
+    private PlayerHurtAssets playerHurtAssets;
+    private boolean assetsCreated = false;
+    private long segmentStart;
+    private long pendingNanos;
 
     /**
-     * Constructs the AssetsLoader.
+     * Constructs the AssetsLoader and queues every group, without loading any.
      */
     private AssetsLoader() {
         this.manager = new AssetManager();
-        for (String path : Constants.ATLAS_PATHS) {
-            manager.load(path, TextureAtlas.class);
+        AssetLoaderParameters.LoadedCallback timer = new AssetLoaderParameters.LoadedCallback() {
+            @Override
+            @SuppressWarnings("rawtypes")
+            public void finishedLoading(final AssetManager assetManager, final String fileName,
+                                        final Class type) {
+                recordLoaded(fileName);
+            }
+        };
+        atlasParameter = new TextureAtlasLoader.TextureAtlasParameter();
+        atlasParameter.loadedCallback = timer;
+        textureParameter = new TextureLoader.TextureParameter();
+        textureParameter.loadedCallback = timer;
+        for (AssetGroup group : AssetGroup.values()) {
+            for (String path : group.getAtlasPaths()) {
+                manager.load(path, TextureAtlas.class, atlasParameter);
+            }
+            for (String path : group.getTexturePaths()) {
+                manager.load(path, Texture.class, textureParameter);
+            }
         }
-        manager.finishLoading();
-        playerAssets = new PlayerAssets(manager.get(Constants.SPRITE_SHEET_PATH, TextureAtlas.class));
-        coinAssets = new CoinAssets(manager.get(Constants.COIN_ATLAS_PATH, TextureAtlas.class));
-        introScreenAssets = new IntroScreenAssets(manager.get(Constants.INTRO_SCREEN_ATLAS_PATH, TextureAtlas.class));
-        gameOverScreenAssets = new GameOverScreenAssets(manager.get(Constants.GAME_OVER_SCREEN_ATLAS_PATH,
-                TextureAtlas.class));
-        gameWonScreenAssets = new GameWonScreenAssets(manager.get(Constants.GAME_WON_SCREEN_ATLAS_PATH,
-                TextureAtlas.class));
-        mushroomAssets = new MushroomAssets(manager.get(Constants.MUSHROOM_ATLAS_PATH, TextureAtlas.class));
-        playerHurtAssets = new PlayerHurtAssets(manager.get(Constants.PLAYER_HURT_ATLAS_PATH, TextureAtlas.class));
-        numberAtlas = manager.get(Constants.NUMBERS_ATLAS_PATH, TextureAtlas.class);
-        fullHeartTexture = new Texture(Constants.FULL_HEART_TEXTURE_PATH);
-        emptyHeartTexture = new Texture(Constants.EMPTY_HEART_TEXTURE_PATH);
     }
 
     /**
-     * Returns the AssetsLoader instance.
+     * Returns the AssetsLoader instance, creating it on first use. Must only be called from the rendering thread.
      * @return the AssetsLoader instance
      */
     public static AssetsLoader getInstance() {
-        return LOADER;
+        if (loader == null) {
+            loader = new AssetsLoader();
+        }
+        return loader;
+    }
+
+    /**
+     * Constructs an AssetsLoader of its own, which queues every asset again instead of sharing the game's. Used to
+     * measure how long the assets take to load; the game uses {@link #getInstance()}.
+     * @return a new AssetsLoader
+     */
+    public static AssetsLoader newInstance() {
+        return new AssetsLoader();
+    }
+
+    /**
+     * Loads the queued assets for at most the given time.
+     * @param budgetMillis how long to load for, in milliseconds
+     * @return true once every asset is loaded and ready to use
+     */
+    public boolean update(final int budgetMillis) {
+        segmentStart = System.nanoTime();
+        boolean loaded = manager.update(budgetMillis);
+        pendingNanos += System.nanoTime() - segmentStart;
+        if (!assetsCreated && isLoaded(AssetGroup.GAMEPLAY)) {
+            createAssets();
+        }
+        return loaded;
+    }
+
+    /**
+     * Loads every queued asset, blocking until they are all ready.
+     */
+    public void finishLoading() {
+        while (!update(Integer.MAX_VALUE)) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Returns how much of the queued assets are loaded.
+     * @return the progress, between 0 and 1
+     */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /**
+     * Returns true if every asset of a group is loaded.
+     * @param group the group
+     * @return true if the group is loaded, false otherwise
+     */
+    public boolean isLoaded(final AssetGroup group) {
+        for (String path : group.getAtlasPaths()) {
+            if (!manager.isLoaded(path)) {
+                return false;
+            }
+        }
+        for (String path : group.getTexturePaths()) {
+            if (!manager.isLoaded(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the time spent loading an asset, since the previous asset finished or the current update began.
+     * @param fileName the asset loaded
+     */
+    private void recordLoaded(final String fileName) {
+        long now = System.nanoTime();
+        timedAssets.add(fileName);
+        assetNanos.add(pendingNanos + now - segmentStart);
+        pendingNanos = 0;
+        segmentStart = now;
+    }
+
+    /**
+     * Returns the time spent loading an asset on the rendering thread, its texture pages included.
+     * @param fileName the asset
+     * @return the time in nanoseconds, or -1 if the asset is not loaded yet
+     */
+    public long getLoadNanos(final String fileName) {
+        int index = timedAssets.indexOf(fileName, false);
+        if (index < 0) {
+            return -1;
+        }
+        return assetNanos.get(index);
+    }
+
+    /**
+     * Logs the time spent loading each asset, slowest first.
+     */
+    public void logTimings() {
+        Array<String> sorted = new Array<>(timedAssets);
+        sorted.sort(new Comparator<String>() {
+            @Override
+            public int compare(final String a, final String b) {
+                return Long.compare(getLoadNanos(b), getLoadNanos(a));
+            }
+        });
+        long total = 0;
+        for (String fileName : sorted) {
+            long nanos = getLoadNanos(fileName);
+            total += nanos;
+            Gdx.app.log(TAG, String.format(Locale.ROOT, "%8.2f ms  %s", nanos / NANOS_PER_MILLI, fileName));
+        }
+        Gdx.app.log(TAG, String.format(Locale.ROOT, "%8.2f ms  total", total / NANOS_PER_MILLI));
+    }
+
+    /**
+     * Creates the animations and regions from the gameplay atlas. Every region lies on its single page, so the
+     * sprites of a level and of the HUD draw without switching textures.
+     */
+    private void createAssets() {
+        gameplayAtlas = manager.get(Constants.GAMEPLAY_ATLAS_PATH, TextureAtlas.class);
+        playerAssets = new PlayerAssets(gameplayAtlas);
+        coinAssets = new CoinAssets(gameplayAtlas);
+        mushroomAssets = new MushroomAssets(gameplayAtlas);
+        playerHurtAssets = new PlayerHurtAssets(gameplayAtlas);
+        fullHeartRegion = gameplayAtlas.findRegion("full_heart");
+        emptyHeartRegion = gameplayAtlas.findRegion("empty_heart");
+        for (int digit = 0; digit < DIGITS; digit++) {
+            digitRegions[digit] = gameplayAtlas.findRegion("numbers-" + digit);
+        }
+        assetsCreated = true;
     }
 
     /**
@@ -67,49 +219,68 @@ public final class AssetsLoader implements Disposable {
      * @return the CoinAssets
      */
     public CoinAssets getCoinAssets() {
-        TextureAtlas atlas = manager.get(Constants.SPRITE_SHEET_PATH, TextureAtlas.class);
-        return new CoinAssets(atlas);
+        return new CoinAssets(gameplayAtlas);
     }
 
     /**
-     * Returns the TextureRegion for the number HUD.
-     * @param number the number to get the TextureRegion for
-     * @return the TextureRegion for the number
+     * Returns the animation frame of the player for the given animation state.
+     * @param mode the animation state of the player
+     * @param stateTime how long the player has been in that state
+     * @return the TextureRegion of the player
      */
-    public Array<TextureRegion> getNumberTextures(final int number) {
-        Array<TextureRegion> digits = new Array<>();
-        String numberStr = String.valueOf(number);
-        for (char digit : numberStr.toCharArray()) {
-            String regionName = "numbers-" + digit;
-            digits.add(numberAtlas.findRegion(regionName));
+    public TextureRegion getPlayerFrame(final PlayerMode mode, final float stateTime) {
+        switch (mode) {
+            case HIT:
+                return playerHurtAssets.hurtAnimation.getKeyFrame(stateTime, false);
+            case MOVE:
+                return playerAssets.moveAnimation.getKeyFrame(stateTime, true);
+            case JUMP:
+                return playerAssets.jumpAnimation.getKeyFrame(stateTime, true);
+            case IDLE:
+            default:
+                return playerAssets.idleAnimation.getKeyFrame(stateTime, true);
         }
+    }
+
+    /**
+     * Fills an array with the TextureRegions of the digits of a number for the HUD, from the most significant.
+     * The regions are looked up once when the atlas is loaded, so this allocates nothing.
+     * @param number the number, not negative
+     * @param digits the array to fill, cleared first
+     * @return the array of digit regions
+     */
+    public Array<TextureRegion> getNumberTextures(final int number, final Array<TextureRegion> digits) {
+        digits.clear();
+        int rest = number;
+        do {
+            digits.add(digitRegions[rest % DIGITS]);
+            rest /= DIGITS;
+        } while (rest > 0);
+        digits.reverse();
         return digits;
     }
 
     /**
-     * Returns the Texture for the Heart.
+     * Returns the TextureRegion for the Heart.
      * @param full whether the heart is full or not
-     * @return the full or empty heart Texture
+     * @return the full or empty heart TextureRegion
      */
-    public Texture getHeartTexture(final boolean full) {
+    public TextureRegion getHeartRegion(final boolean full) {
         if (full) {
-            return fullHeartTexture;
+            return fullHeartRegion;
         } else {
-            return emptyHeartTexture;
+            return emptyHeartRegion;
         }
     }
 
     /**
-     * Disposes the AssetManager.
+     * Disposes the AssetManager and every asset it loaded.
      */
     @Override
     public void dispose() {
         manager.dispose();
-        if (fullHeartTexture != null) {
-            fullHeartTexture.dispose();
-        }
-        if (emptyHeartTexture != null) {
-            emptyHeartTexture.dispose();
+        if (loader == this) {
+            loader = null;
         }
     }
     /**
@@ -242,74 +413,6 @@ public final class AssetsLoader implements Disposable {
         }
     }
 
-    /**
-     * Assets for the IntroScreen.
-     */
-    public static class IntroScreenAssets {
-        /**
-         * Animation for the IntroScreen.
-         */
-        public final Animation<TextureAtlas.AtlasRegion> introAnimation;
-
-        /**
-         * Constructs the IntroScreenAssets.
-         * @param atlas the TextureAtlas
-         */
-        public IntroScreenAssets(final TextureAtlas atlas) {
-            Array<TextureAtlas.AtlasRegion> introFrames = new Array<>();
-            for (int i = 0; i <= Constants.EIGHTEEN; i++) {
-                introFrames.add(atlas.findRegion("frame", i));
-            }
-            introAnimation = new Animation<>(Constants.MEDIUM_FRAME_DURATION, introFrames, Animation.PlayMode.LOOP);
-        }
-    }
-
-    /**
-     * Assets for the GameOverScreen.
-     */
-    public static class GameOverScreenAssets {
-        /**
-         * Animation for the GameOverScreen.
-         */
-        public final Animation<TextureAtlas.AtlasRegion> gameOverAnimation;
-
-        /**
-         * Constructs the GameOverScreenAssets.
-         * @param atlas the TextureAtlas
-         */
-        public GameOverScreenAssets(final TextureAtlas atlas) {
-            Array<TextureAtlas.AtlasRegion> gameOverFrames = new Array<>();
-            for (int i = 0; i <= Constants.FIFTEEN; i++) {
-                gameOverFrames.add(atlas.findRegion("frame", i));
-            }
-            gameOverAnimation = new Animation<>(Constants.MEDIUM_FRAME_DURATION, gameOverFrames,
-                    Animation.PlayMode.NORMAL);
-        }
-    }
-
-    /**
-     * Assets for the GameWonScreen.
-     */
-    public static class GameWonScreenAssets {
-        /**
-         * Animation for the GameWonScreen.
-         */
-        public final Animation<TextureAtlas.AtlasRegion> gameWonAnimation;
-
-        /**
-         * Constructs the GameWonScreenAssets.
-         * @param atlas the TextureAtlas
-         */
-        public GameWonScreenAssets(final TextureAtlas atlas) {
-            Array<TextureAtlas.AtlasRegion> gameWonFrames = new Array<>();
-            for (int i = 0; i <= Constants.EIGHTEEN; i++) {
-                gameWonFrames.add(atlas.findRegion("frame", i));
-            }
-            gameWonAnimation = new Animation<>(Constants.MEDIUM_FRAME_DURATION, gameWonFrames,
-                    Animation.PlayMode.NORMAL);
-        }
-    }
-
     /**
      * Returns the PlayerAssets.
      *
@@ -319,33 +422,6 @@ public final class AssetsLoader implements Disposable {
         return playerAssets;
     }
 
-    /**
-     * Returns the IntroScreenAssets.
-     *
-     * @return the IntroScreenAssets
-     */
-    public IntroScreenAssets getIntroScreenAssets() {
-        return introScreenAssets;
-    }
-
-    /**
-     * Returns the GameOverScreenAssets.
-     *
-     * @return the GameOverScreenAssets
-     */
-    public GameOverScreenAssets getGameOverScreenAssets() {
-        return gameOverScreenAssets;
-    }
-
-    /**
-     * Returns the GameWonScreenAssets.
-     *
-     * @return the GameWonScreenAssets
-     */
-    public GameWonScreenAssets getGameWonScreenAssets() {
-        return gameWonScreenAssets;
-    }
-
     /**
      * Returns the PlayerHurtAssets.
      *
@@ -361,10 +437,9 @@ public final class AssetsLoader implements Disposable {
      */
     @Override
     public String toString() {
-        return "AssetsLoader{" + "playerAssets=" + playerAssets + ", coinAssets=" + coinAssets + ", introScreenAssets="
-                + introScreenAssets + ", gameOverScreenAssets=" + gameOverScreenAssets + ", gameWonScreenAssets="
-                + gameWonScreenAssets + ", numberAtlas=" + numberAtlas + ", mushroomAssets=" + mushroomAssets
-                + ", manager=" + manager + ", fullHeartTexture=" + fullHeartTexture + ", emptyHeartTexture="
-                + emptyHeartTexture + ", playerHurtAssets=" + playerHurtAssets + '}';
+        return "AssetsLoader{" + "playerAssets=" + playerAssets + ", coinAssets=" + coinAssets + ", gameplayAtlas="
+                + gameplayAtlas + ", mushroomAssets=" + mushroomAssets + ", manager=" + manager + ", fullHeartRegion="
+                + fullHeartRegion + ", emptyHeartRegion=" + emptyHeartRegion + ", playerHurtAssets=" + playerHurtAssets
+                + ", assetsCreated=" + assetsCreated + '}';
     }
 }
@@ -5,6 +5,8 @@ import com.badlogic.gdx.physics.box2d.Contact;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.Manifold;
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.utils.Array;
+import com.toads.odyssey.model.Coin;
 import com.toads.odyssey.model.Player;
 
 /**
@@ -18,9 +20,12 @@ public final class CollisionDetection implements ContactListener {
      * A singleton instance of CollisionDetection.
      */
     private static final CollisionDetection INSTANCE = new CollisionDetection();
+    private static final int TOUCHED_COINS_CAPACITY = 16;
+    private final Array<Coin> touchedCoins = new Array<>(false, TOUCHED_COINS_CAPACITY, Coin.class);
     private int groundContacts = 0;
     private boolean playerHasFallen = false;
     private boolean isDoorReached = false;
+    private int pendingMushroomHits = 0;
 
     /**
      * Prevents instantiation from other classes.
@@ -51,14 +56,15 @@ public final class CollisionDetection implements ContactListener {
             playerHasFallen = true;
         }
         if (isPlayerMushroomContact(fa, fb)) {
-            Player player = getPlayerFromFixture(fa, fb);
-            if (player != null) {
-                player.hitByMushroom(true);
-            }
+            pendingMushroomHits++;
         }
         if (isPlayerDoorContact(fa, fb)) {
             isDoorReached = true;
         }
+        Coin coin = getCoinTouchedByPlayer(fa, fb);
+        if (coin != null) {
+            touchedCoins.add(coin);
+        }
     }
 
     /**
@@ -130,16 +136,16 @@ public final class CollisionDetection implements ContactListener {
     }
 
     /**
-     * Returns the player object from the provided fixtures, or null if not found.
+     * Returns the coin the player touched, if the fixtures are the player and a coin.
      * @param a the first fixture
      * @param b the second fixture
-     * @return the player object if found in either fixture's user data, or null if not found.
+     * @return the coin touched by the player, or null if the fixtures are not the player and a coin
      */
-    private Player getPlayerFromFixture(final Fixture a, final Fixture b) {
-        if (a.getUserData() instanceof Player) {
-            return (Player) a.getUserData();
-        } else if (b.getUserData() instanceof Player) {
-            return (Player) b.getUserData();
+    private Coin getCoinTouchedByPlayer(final Fixture a, final Fixture b) {
+        if (a.getUserData() instanceof Player && b.getUserData() instanceof Coin) {
+            return (Coin) b.getUserData();
+        } else if (b.getUserData() instanceof Player && a.getUserData() instanceof Coin) {
+            return (Coin) a.getUserData();
         }
         return null;
     }
@@ -168,6 +174,37 @@ public final class CollisionDetection implements ContactListener {
         playerHasFallen = false;
     }
 
+    /**
+     * Forgets the events of the level being played, for a restart: the fall, the door and the mushroom hits and
+     * coins not handled yet. The ground contacts are kept, as Box2D still ends the contacts of the moved player.
+     */
+    public void resetEvents() {
+        playerHasFallen = false;
+        isDoorReached = false;
+        pendingMushroomHits = 0;
+        touchedCoins.clear();
+    }
+
+    /**
+     * Returns the number of times the player touched a mushroom since the last call, and resets it.
+     * The hits are resolved after the physics step instead of inside the contact callback.
+     * @return the number of mushroom hits
+     */
+    public int consumeMushroomHits() {
+        int hits = pendingMushroomHits;
+        pendingMushroomHits = 0;
+        return hits;
+    }
+
+    /**
+     * Returns the coins the player touched since they were last cleared. The coins are collected after the physics
+     * step, since bodies cannot be destroyed inside the contact callback; the caller clears the array once done.
+     * @return the coins touched by the player
+     */
+    public Array<Coin> getTouchedCoins() {
+        return touchedCoins;
+    }
+
     /**
      * Returns true if the player has reached the door, false otherwise.
      * @return true if the player has reached the door, false otherwise
@@ -183,7 +220,8 @@ public final class CollisionDetection implements ContactListener {
     @Override
     public String toString() {
         return "CollisionDetection{" + "groundContacts=" + groundContacts + ", playerHasFallen=" + playerHasFallen
-                + ", isDoorReached=" + isDoorReached + '}';
+                + ", isDoorReached=" + isDoorReached + ", pendingMushroomHits=" + pendingMushroomHits
+                + ", touchedCoins=" + touchedCoins.size + '}';
     }
 }
 
@@ -8,17 +8,9 @@ package com.toads.odyssey.util;
  */
 public final class Constants {
     /**
-     * The path to the sprite sheet atlas.
+     * The path to the gameplay atlas, merged from the sprite sheets by the packGameplayAtlas Gradle task.
      */
-    public static final String SPRITE_SHEET_PATH = "atlas_files/spriteSheet.atlas";
-    /**
-     * The path to the coin atlas.
-     */
-    public static final String COIN_ATLAS_PATH = "atlas_files/coin.atlas";
-    /**
-     * The path to the number atlas.
-     */
-    public static final String NUMBERS_ATLAS_PATH = "atlas_files/numbers.atlas";
+    public static final String GAMEPLAY_ATLAS_PATH = "atlas_files/gameplay.atlas";
     /**
      * The path to the start screen atlas.
      */
@@ -32,34 +24,13 @@ public final class Constants {
      */
     public static final String GAME_WON_SCREEN_ATLAS_PATH = "screens/gamewon.atlas";
     /**
-     * The path to the mushroom atlas.
-     */
-    public static final String MUSHROOM_ATLAS_PATH = "atlas_files/mushroom.atlas";
-    /**
-     * The path to the player hurt atlas.
-     */
-    public static final String PLAYER_HURT_ATLAS_PATH = "atlas_files/frog_hurt.atlas";
-    /**
-     * The array storing all the atlas paths to load by the asset manager.
-     */
-    public static final String[] ATLAS_PATHS = {
-            SPRITE_SHEET_PATH,
-            COIN_ATLAS_PATH,
-            NUMBERS_ATLAS_PATH,
-            INTRO_SCREEN_ATLAS_PATH,
-            GAME_OVER_SCREEN_ATLAS_PATH,
-            GAME_WON_SCREEN_ATLAS_PATH,
-            MUSHROOM_ATLAS_PATH,
-            PLAYER_HURT_ATLAS_PATH
-    };
-    /**
-     * The path to the full_heart image.
+     * The path to the vertex shader of the paused level's tint.
      */
-    public static final String FULL_HEART_TEXTURE_PATH = "tiles/full_heart.png";
+    public static final String TINT_VERTEX_SHADER_PATH = "shaders/tint.vert.glsl";
     /**
-     * The path to the empty_heart image.
+     * The path to the fragment shader of the paused level's tint.
      */
-    public static final String EMPTY_HEART_TEXTURE_PATH = "tiles/empty_heart.png";
+    public static final String TINT_FRAGMENT_SHADER_PATH = "shaders/tint.frag.glsl";
     /**
      * Frame duration of 0.15f.
      */
@@ -133,6 +104,15 @@ public final class Constants {
      * The number of position iterations in the physical simulation.
      */
     public static final int POSITION_ITERATIONS = 2;
+    /**
+     * The longest frame time the simulation will try to catch up on, in seconds.
+     * Anything beyond this is dropped so that a long hitch does not trigger a spiral of death.
+     */
+    public static final float MAX_FRAME_TIME = 0.25f;
+    /**
+     * The maximum number of physics steps taken in a single rendered frame.
+     */
+    public static final int MAX_STEPS_PER_FRAME = 5;
 
     /**
      * private constructor.
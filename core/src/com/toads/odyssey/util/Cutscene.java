@@ -0,0 +1,96 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+
+/**
+ * The animated cutscenes of the game.
+ * Each cutscene is packed as a single atlas page, which the splitCutscenes Gradle task splits into one PNG per
+ * frame, so the frames can be streamed one at a time instead of loading a page of hundreds of megabytes.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public enum Cutscene {
+    /**
+     * The cutscene of the start screen, played in a loop.
+     */
+    INTRO(Constants.INTRO_SCREEN_ATLAS_PATH, "screens/intro", Constants.EIGHTEEN + 1, Animation.PlayMode.LOOP),
+    /**
+     * The cutscene of the game over screen, played once.
+     */
+    GAME_OVER(Constants.GAME_OVER_SCREEN_ATLAS_PATH, "screens/gameover", Constants.FIFTEEN + 1,
+            Animation.PlayMode.NORMAL),
+    /**
+     * The cutscene of the game won screen, played once.
+     */
+    GAME_WON(Constants.GAME_WON_SCREEN_ATLAS_PATH, "screens/gamewon", Constants.EIGHTEEN + 1,
+            Animation.PlayMode.NORMAL);
+
+    private final String atlasPath;
+    private final String frameDirectory;
+    private final int frameCount;
+    private final Animation.PlayMode playMode;
+
+    Cutscene(final String atlasPath, final String frameDirectory, final int frameCount,
+             final Animation.PlayMode playMode) {
+        this.atlasPath = atlasPath;
+        this.frameDirectory = frameDirectory;
+        this.frameCount = frameCount;
+        this.playMode = playMode;
+    }
+
+    /**
+     * Returns the path of the atlas the frames are split from.
+     *
+     * @return the atlas path
+     */
+    public String getAtlasPath() {
+        return atlasPath;
+    }
+
+    /**
+     * Returns the directory the frames are split into.
+     *
+     * @return the frame directory
+     */
+    public String getFrameDirectory() {
+        return frameDirectory;
+    }
+
+    /**
+     * Returns the path of a frame.
+     *
+     * @param index the index of the frame
+     * @return the frame path
+     */
+    public String getFramePath(final int index) {
+        return frameDirectory + "/frame-" + index + ".png";
+    }
+
+    /**
+     * Returns the number of frames.
+     *
+     * @return the frame count
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns how the cutscene is played.
+     *
+     * @return LOOP or NORMAL
+     */
+    public Animation.PlayMode getPlayMode() {
+        return playMode;
+    }
+
+    /**
+     * Returns how long each frame is shown.
+     *
+     * @return the frame duration in seconds
+     */
+    public float getFrameDuration() {
+        return Constants.MEDIUM_FRAME_DURATION;
+    }
+}
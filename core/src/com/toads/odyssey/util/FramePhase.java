@@ -0,0 +1,18 @@
+package com.toads.odyssey.util;
+
+/**
+ * The phases of a frame, in the order they run.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public enum FramePhase {
+    INPUT,
+    PHYSICS,
+    CONTACTS,
+    LOGIC,
+    ANIMATION,
+    CAMERA,
+    WORLD_RENDER,
+    HUD
+}
@@ -0,0 +1,95 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Runs the work of a frame as an ordered list of phases, timing each phase.
+ * Tasks are registered once in the phase they belong to and run exactly once per frame, in the order of
+ * {@link FramePhase} and then in the order they were registered.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class FramePipeline {
+    private static final FramePhase[] PHASES = FramePhase.values();
+    private final Array<Array<FrameTask>> tasks;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private long frameNanos;
+
+    /**
+     * Constructs an empty frame pipeline.
+     */
+    public FramePipeline() {
+        tasks = new Array<>(PHASES.length);
+        for (int i = 0; i < PHASES.length; i++) {
+            tasks.add(new Array<FrameTask>(false, 2, FrameTask.class));
+        }
+    }
+
+    /**
+     * Registers a task to run in the given phase.
+     *
+     * @param phase the phase to run the task in
+     * @param task  the task
+     */
+    public void register(final FramePhase phase, final FrameTask task) {
+        tasks.get(phase.ordinal()).add(task);
+    }
+
+    /**
+     * Runs every phase of the frame.
+     *
+     * @param delta the time between frames
+     */
+    public void run(final float delta) {
+        long frameStart = System.nanoTime();
+        for (int i = 0; i < PHASES.length; i++) {
+            long phaseStart = System.nanoTime();
+            Array<FrameTask> phaseTasks = tasks.get(i);
+            for (int j = 0; j < phaseTasks.size; j++) {
+                phaseTasks.get(j).run(delta);
+            }
+            phaseNanos[i] = System.nanoTime() - phaseStart;
+        }
+        frameNanos = System.nanoTime() - frameStart;
+    }
+
+    /**
+     * Returns true if any task is registered in the given phase.
+     *
+     * @param phase the phase
+     * @return true if the phase has tasks, false otherwise
+     */
+    public boolean hasTasks(final FramePhase phase) {
+        return tasks.get(phase.ordinal()).size > 0;
+    }
+
+    /**
+     * Returns how long the given phase took during the last frame.
+     *
+     * @param phase the phase
+     * @return the duration of the phase in nanoseconds
+     */
+    public long getPhaseNanos(final FramePhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns how long the whole last frame took.
+     *
+     * @return the duration of the frame in nanoseconds
+     */
+    public long getFrameNanos() {
+        return frameNanos;
+    }
+
+    /**
+     * Returns the string representation of FramePipeline.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "FramePipeline{" + "tasks=" + tasks + ", frameNanos=" + frameNanos + '}';
+    }
+}
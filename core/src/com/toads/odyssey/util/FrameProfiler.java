@@ -0,0 +1,146 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Collects the phase timings of every frame run by a {@link FramePipeline} into rolling histograms, and optionally
+ * writes them to a CSV file, one line per frame.
+ * Recording a frame does not allocate, so the profiler can stay on in release builds.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class FrameProfiler {
+    /**
+     * The number of frames the percentiles are computed over.
+     */
+    public static final int WINDOW = 300;
+    private static final FramePhase[] PHASES = FramePhase.values();
+    private static final int CSV_BUFFER_SIZE = 1 << 16;
+    private final RollingHistogram[] phases = new RollingHistogram[PHASES.length];
+    private final RollingHistogram frames = new RollingHistogram(WINDOW);
+    private final StringBuilder line = new StringBuilder();
+    private Writer csv;
+    private FileHandle csvFile;
+    private long frameCount = 0;
+
+    /**
+     * Constructs a frame profiler.
+     */
+    public FrameProfiler() {
+        for (int i = 0; i < PHASES.length; i++) {
+            phases[i] = new RollingHistogram(WINDOW);
+        }
+    }
+
+    /**
+     * Starts writing the timings of every frame to a CSV file, in nanoseconds.
+     *
+     * @param file the CSV file
+     */
+    public void startCsv(final FileHandle file) {
+        stopCsv();
+        csvFile = file;
+        csv = new BufferedWriter(file.writer(false, "UTF-8"), CSV_BUFFER_SIZE);
+        line.setLength(0);
+        line.append("frame");
+        for (FramePhase phase : PHASES) {
+            line.append(',').append(phase.name().toLowerCase(Locale.ROOT));
+        }
+        line.append(",total\n");
+        writeLine();
+    }
+
+    /**
+     * Records the phase timings of the frame the pipeline just ran.
+     *
+     * @param pipeline the pipeline
+     */
+    public void record(final FramePipeline pipeline) {
+        for (int i = 0; i < PHASES.length; i++) {
+            phases[i].record(pipeline.getPhaseNanos(PHASES[i]));
+        }
+        frames.record(pipeline.getFrameNanos());
+        frameCount++;
+        if (csv != null) {
+            line.setLength(0);
+            line.append(frameCount);
+            for (FramePhase phase : PHASES) {
+                line.append(',').append(pipeline.getPhaseNanos(phase));
+            }
+            line.append(',').append(pipeline.getFrameNanos()).append('\n');
+            writeLine();
+        }
+    }
+
+    /**
+     * Writes the current line to the CSV file without turning it into a string.
+     */
+    private void writeLine() {
+        try {
+            for (int i = 0; i < line.length(); i++) {
+                csv.write(line.charAt(i));
+            }
+        } catch (IOException e) {
+            StreamUtils.closeQuietly(csv);
+            csv = null;
+            throw new GdxRuntimeException("Could not write frame timings to " + csvFile, e);
+        }
+    }
+
+    /**
+     * Flushes and closes the CSV file, if one is being written.
+     */
+    public void stopCsv() {
+        if (csv != null) {
+            StreamUtils.closeQuietly(csv);
+            csv = null;
+            Gdx.app.log("FrameProfiler", "Wrote " + frameCount + " frames to " + csvFile.path());
+        }
+    }
+
+    /**
+     * Returns the rolling histogram of a phase, in nanoseconds.
+     *
+     * @param phase the phase
+     * @return the histogram of the phase
+     */
+    public RollingHistogram getPhase(final FramePhase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * Returns the rolling histogram of whole frames, in nanoseconds.
+     *
+     * @return the histogram of the frames
+     */
+    public RollingHistogram getFrames() {
+        return frames;
+    }
+
+    /**
+     * Returns the number of frames recorded.
+     *
+     * @return the number of frames
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns the string representation of FrameProfiler.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "FrameProfiler{" + "frameCount=" + frameCount + ", csvFile=" + csvFile + '}';
+    }
+}
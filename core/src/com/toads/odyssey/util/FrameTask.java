@@ -0,0 +1,16 @@
+package com.toads.odyssey.util;
+
+/**
+ * A unit of work run once per frame in one of the phases of a {@link FramePipeline}.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public interface FrameTask {
+    /**
+     * Runs the task.
+     *
+     * @param delta the time between frames
+     */
+    void run(float delta);
+}
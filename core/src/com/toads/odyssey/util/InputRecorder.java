@@ -0,0 +1,78 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Records the input of every simulation tick so the session can be replayed by {@link InputReplay}.
+ * The file holds a small header followed by one byte per tick, the bitmask of {@link InputSource}; pause events
+ * are stored in the same byte with the {@link InputSource#PAUSE} bit.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class InputRecorder {
+    /**
+     * The first four bytes of a recording, "TOIR".
+     */
+    public static final int MAGIC = 0x544F4952;
+    /**
+     * The version of the recording format.
+     */
+    public static final int VERSION = 1;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private final ByteArray ticks = new ByteArray(INITIAL_CAPACITY);
+
+    /**
+     * Records the input of one tick.
+     *
+     * @param buttons the buttons of the tick, as a combination of the bits of {@link InputSource}
+     */
+    public void record(final int buttons) {
+        ticks.add((byte) buttons);
+    }
+
+    /**
+     * Returns the number of ticks recorded.
+     *
+     * @return the number of ticks
+     */
+    public int getTickCount() {
+        return ticks.size;
+    }
+
+    /**
+     * Writes the recording to a file.
+     *
+     * @param file the file to write
+     */
+    public void save(final FileHandle file) {
+        DataOutputStream out = new DataOutputStream(file.write(false));
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeFloat(Constants.TIME_STEP);
+            out.writeInt(ticks.size);
+            out.write(ticks.items, 0, ticks.size);
+            out.flush();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write input recording " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    /**
+     * Returns the string representation of InputRecorder.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "InputRecorder{" + "ticks=" + ticks.size + '}';
+    }
+}
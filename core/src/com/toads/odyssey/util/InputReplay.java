@@ -0,0 +1,88 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Plays back the input written by {@link InputRecorder}, one tick at a time.
+ * Once the recording is exhausted no buttons are held.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class InputReplay implements InputSource {
+    private final byte[] ticks;
+    private int position = 0;
+
+    /**
+     * Reads a recording.
+     *
+     * @param file the recording
+     */
+    public InputReplay(final FileHandle file) {
+        DataInputStream in = new DataInputStream(file.read());
+        try {
+            if (in.readInt() != InputRecorder.MAGIC) {
+                throw new GdxRuntimeException(file + " is not an input recording");
+            }
+            int version = in.readUnsignedByte();
+            if (version != InputRecorder.VERSION) {
+                throw new GdxRuntimeException("Unsupported input recording version " + version + " in " + file);
+            }
+            float timeStep = in.readFloat();
+            if (timeStep != Constants.TIME_STEP) {
+                throw new GdxRuntimeException(file + " was recorded with a time step of " + timeStep + " s");
+            }
+            ticks = new byte[in.readInt()];
+            in.readFully(ticks);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not read input recording " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
+    /**
+     * Returns the buttons of the next recorded tick.
+     *
+     * @return the buttons of the next tick, or 0 once the recording is exhausted
+     */
+    @Override
+    public int poll() {
+        if (position >= ticks.length) {
+            return 0;
+        }
+        return ticks[position++] & 0xFF;
+    }
+
+    /**
+     * Returns true once every recorded tick has been played back.
+     *
+     * @return true if the replay is finished, false otherwise
+     */
+    public boolean isFinished() {
+        return position >= ticks.length;
+    }
+
+    /**
+     * Returns the number of ticks in the recording.
+     *
+     * @return the number of ticks
+     */
+    public int getTickCount() {
+        return ticks.length;
+    }
+
+    /**
+     * Returns the string representation of InputReplay.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "InputReplay{" + "ticks=" + ticks.length + ", position=" + position + '}';
+    }
+}
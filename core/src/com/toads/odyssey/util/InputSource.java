@@ -0,0 +1,33 @@
+package com.toads.odyssey.util;
+
+/**
+ * Provides the player's input one simulation tick at a time, as a bitmask of buttons.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public interface InputSource {
+    /**
+     * The bit set while the left key is held.
+     */
+    int LEFT = 1;
+    /**
+     * The bit set while the right key is held.
+     */
+    int RIGHT = 1 << 1;
+    /**
+     * The bit set while the jump key is held.
+     */
+    int UP = 1 << 2;
+    /**
+     * The bit set on the tick the game is paused or resumed.
+     */
+    int PAUSE = 1 << 3;
+
+    /**
+     * Returns the input of the next tick.
+     *
+     * @return the buttons of the next tick, as a combination of the bits of this interface
+     */
+    int poll();
+}
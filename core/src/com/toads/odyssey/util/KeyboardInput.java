@@ -0,0 +1,42 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * Reads the player's input from the keyboard.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class KeyboardInput implements InputSource {
+    /**
+     * Returns the movement keys currently held.
+     *
+     * @return the buttons held, as a combination of the bits of {@link InputSource}
+     */
+    @Override
+    public int poll() {
+        int buttons = 0;
+        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
+            buttons |= LEFT;
+        }
+        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
+            buttons |= RIGHT;
+        }
+        if (Gdx.input.isKeyPressed(Input.Keys.UP)) {
+            buttons |= UP;
+        }
+        return buttons;
+    }
+
+    /**
+     * Returns the string representation of KeyboardInput.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "KeyboardInput{}";
+    }
+}
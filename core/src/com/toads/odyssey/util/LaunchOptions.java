@@ -0,0 +1,171 @@
+package com.toads.odyssey.util;
+
+/**
+ * Options the game was launched with.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class LaunchOptions {
+    /**
+     * Runs the simulation on its own thread.
+     */
+    public static final String THREADED_SIMULATION = "--threaded-simulation";
+    /**
+     * Records the input of every tick to the file that follows.
+     */
+    public static final String RECORD = "--record";
+    /**
+     * Replays the input recorded in the file that follows.
+     */
+    public static final String REPLAY = "--replay";
+    /**
+     * Writes the phase timings of every frame to the CSV file that follows.
+     */
+    public static final String PROFILE_CSV = "--profile-csv";
+    /**
+     * Plays a generated level of the sizes that follow, as "platforms,coins,mushrooms[,seed]".
+     */
+    public static final String GENERATE = "--generate";
+    private boolean threadedSimulation = false;
+    private String recordFile;
+    private String replayFile;
+    private String profileCsvFile;
+    private LevelGenerator levelGenerator;
+
+    /**
+     * Parses the options from the command line arguments. Unknown arguments are ignored.
+     *
+     * @param args the command line arguments
+     * @return the parsed options
+     */
+    public static LaunchOptions parse(final String[] args) {
+        LaunchOptions options = new LaunchOptions();
+        for (int i = 0; i < args.length; i++) {
+            if (THREADED_SIMULATION.equals(args[i])) {
+                options.threadedSimulation = true;
+            } else if (RECORD.equals(args[i]) && i + 1 < args.length) {
+                options.recordFile = args[++i];
+            } else if (REPLAY.equals(args[i]) && i + 1 < args.length) {
+                options.replayFile = args[++i];
+            } else if (PROFILE_CSV.equals(args[i]) && i + 1 < args.length) {
+                options.profileCsvFile = args[++i];
+            } else if (GENERATE.equals(args[i]) && i + 1 < args.length) {
+                options.levelGenerator = LevelGenerator.parse(args[++i]);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Returns true if the simulation should step on its own thread.
+     *
+     * @return true if the simulation is threaded, false otherwise
+     */
+    public boolean isThreadedSimulation() {
+        return threadedSimulation;
+    }
+
+    /**
+     * Sets whether the simulation should step on its own thread.
+     *
+     * @param threadedSimulation true to step the simulation on its own thread
+     */
+    public void setThreadedSimulation(final boolean threadedSimulation) {
+        this.threadedSimulation = threadedSimulation;
+    }
+
+    /**
+     * Returns the file the input is recorded to.
+     *
+     * @return the path of the recording, or null if the input is not recorded
+     */
+    public String getRecordFile() {
+        return recordFile;
+    }
+
+    /**
+     * Sets the file the input is recorded to.
+     *
+     * @param recordFile the path of the recording, or null to not record
+     */
+    public void setRecordFile(final String recordFile) {
+        this.recordFile = recordFile;
+    }
+
+    /**
+     * Returns the file the input is replayed from.
+     *
+     * @return the path of the recording, or null if the input is read from the keyboard
+     */
+    public String getReplayFile() {
+        return replayFile;
+    }
+
+    /**
+     * Sets the file the input is replayed from.
+     *
+     * @param replayFile the path of the recording, or null to read the keyboard
+     */
+    public void setReplayFile(final String replayFile) {
+        this.replayFile = replayFile;
+    }
+
+    /**
+     * Returns the file the frame timings are written to.
+     *
+     * @return the path of the CSV file, or null if the timings are not written
+     */
+    public String getProfileCsvFile() {
+        return profileCsvFile;
+    }
+
+    /**
+     * Sets the file the frame timings are written to.
+     *
+     * @param profileCsvFile the path of the CSV file, or null to not write the timings
+     */
+    public void setProfileCsvFile(final String profileCsvFile) {
+        this.profileCsvFile = profileCsvFile;
+    }
+
+    /**
+     * Returns the generator of the level to play instead of the first level.
+     *
+     * @return the generator, or null if the first level is played
+     */
+    public LevelGenerator getLevelGenerator() {
+        return levelGenerator;
+    }
+
+    /**
+     * Sets the generator of the level to play instead of the first level.
+     *
+     * @param levelGenerator the generator, or null to play the first level
+     */
+    public void setLevelGenerator(final LevelGenerator levelGenerator) {
+        this.levelGenerator = levelGenerator;
+    }
+
+    /**
+     * Returns true if the simulation must advance in whole fixed ticks, which recording and replaying require for
+     * the same input to give the same result.
+     *
+     * @return true if the simulation runs at a fixed timestep, false otherwise
+     */
+    public boolean isFixedStep() {
+        return recordFile != null || replayFile != null;
+    }
+
+    /**
+     * Returns the string representation of LaunchOptions.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "LaunchOptions{" + "threadedSimulation=" + threadedSimulation + ", recordFile=" + recordFile
+                + ", replayFile=" + replayFile + ", profileCsvFile=" + profileCsvFile + ", levelGenerator="
+                + levelGenerator + '}';
+    }
+}
@@ -0,0 +1,126 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.BaseTmxMapLoader;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.XmlReader;
+import com.badlogic.gdx.utils.XmlReader.Element;
+import com.toads.odyssey.model.Level1Simulation;
+
+/**
+ * Compiles a TMX map into a {@link LevelFile}.
+ * The objects are read by the {@link SimulationMapLoader} and described by the level's own rules, so they are
+ * scaled exactly as when the level is loaded from its TMX map. The tile sets and tile layers are read from the XML
+ * directly, so that no image is loaded and no GL context is needed.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class LevelCompiler {
+    private static final int NO_PARENT = -1;
+    private final XmlReader xml = new XmlReader();
+
+    /**
+     * Compiles a map.
+     *
+     * @param tmxFile the map, an internal file
+     * @return the compiled level
+     */
+    public LevelFile compile(final FileHandle tmxFile) {
+        TiledMap objects = new SimulationMapLoader().load(tmxFile.path());
+        Element root = xml.parse(tmxFile);
+        LevelFile level = new LevelFile(Level1Simulation.describe(objects), root.getIntAttribute("width"),
+                root.getIntAttribute("height"), root.getIntAttribute("tilewidth"),
+                root.getIntAttribute("tileheight"));
+        objects.dispose();
+        for (Element element : root.getChildrenByName("tileset")) {
+            addTileSet(level, tmxFile, element);
+        }
+        addLayers(level, root, NO_PARENT);
+        return level;
+    }
+
+    /**
+     * Adds a tile set, reading it from its TSX file if it is external.
+     *
+     * @param level   the level
+     * @param tmxFile the map
+     * @param element the tile set element of the map
+     */
+    private void addTileSet(final LevelFile level, final FileHandle tmxFile, final Element element) {
+        int firstGid = element.getIntAttribute("firstgid", 1);
+        Element tileSet = element;
+        FileHandle base = tmxFile;
+        String source = element.getAttribute("source", null);
+        if (source != null) {
+            base = resolve(tmxFile, source);
+            tileSet = xml.parse(base);
+        }
+        Element image = tileSet.getChildByName("image");
+        Element offset = tileSet.getChildByName("tileoffset");
+        level.addTileSet(new LevelFile.TileSet(firstGid, tileSet.getIntAttribute("tilewidth"),
+                tileSet.getIntAttribute("tileheight"), tileSet.getIntAttribute("spacing", 0),
+                tileSet.getIntAttribute("margin", 0), tileSet.getIntAttribute("columns"),
+                tileSet.getIntAttribute("tilecount"), offset != null ? offset.getIntAttribute("x", 0) : 0,
+                offset != null ? offset.getIntAttribute("y", 0) : 0,
+                resolve(base, image.getAttribute("source")).path()));
+    }
+
+    /**
+     * Adds the tile layers and groups of a map or group, in order, skipping the object layers.
+     *
+     * @param level  the level
+     * @param parent the map or group element
+     * @param index  the index of the group in the level, or -1 for the map
+     */
+    private static void addLayers(final LevelFile level, final Element parent, final int index) {
+        for (int i = 0; i < parent.getChildCount(); i++) {
+            Element element = parent.getChild(i);
+            boolean group = "group".equals(element.getName());
+            if (!group && !"layer".equals(element.getName())) {
+                continue;
+            }
+            LevelFile.Layer layer = new LevelFile.Layer(index, element.getAttribute("name", ""),
+                    element.getIntAttribute("visible", 1) == 1, element.getFloatAttribute("opacity", 1f),
+                    element.getFloatAttribute("offsetx", 0f), element.getFloatAttribute("offsety", 0f));
+            if (group) {
+                addLayers(level, element, level.addLayer(layer));
+            } else {
+                int width = element.getIntAttribute("width");
+                int height = element.getIntAttribute("height");
+                int[] ids = BaseTmxMapLoader.getTileIds(element, width, height);
+                System.arraycopy(ids, 0, layer.setTiles(width, height), 0, ids.length);
+                level.addLayer(layer);
+            }
+        }
+    }
+
+    /**
+     * Resolves a path relative to a file the way the TMX loader does.
+     *
+     * @param file the file the path is relative to
+     * @param path the relative path
+     * @return the file the path points to
+     */
+    private static FileHandle resolve(final FileHandle file, final String path) {
+        FileHandle result = file.parent();
+        for (String token : path.split("[\\\\/]")) {
+            if ("..".equals(token)) {
+                result = result.parent();
+            } else if (!token.isEmpty() && !".".equals(token)) {
+                result = result.child(token);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the string representation of LevelCompiler.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "LevelCompiler{}";
+    }
+}
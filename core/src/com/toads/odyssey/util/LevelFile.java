@@ -0,0 +1,592 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.toads.odyssey.model.LevelData;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * A level compiled from its TMX map by {@link LevelCompiler}, so it can be loaded without parsing XML.
+ * The file holds a small header, the objects of the level as a {@link LevelData} already scaled to world units,
+ * the tile sets, and the layers with their tile ids packed as ints. It is read through a memory-mapped buffer,
+ * and the tile ids are copied out in bulk.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class LevelFile {
+    /**
+     * The first four bytes of a compiled level, "TOLV".
+     */
+    public static final int MAGIC = 0x544F4C56;
+    /**
+     * The version of the compiled level format.
+     */
+    public static final int VERSION = 2;
+    private static final int FLAG_FLIP_HORIZONTALLY = 0x80000000;
+    private static final int FLAG_FLIP_VERTICALLY = 0x40000000;
+    private static final int FLAG_FLIP_DIAGONALLY = 0x20000000;
+    private static final int MASK_CLEAR = 0xE0000000;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int NO_PARENT = -1;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private final LevelData data;
+    private final Array<TileSet> tileSets = new Array<>();
+    private final Array<Layer> layers = new Array<>();
+    private final int width;
+    private final int height;
+    private final int tileWidth;
+    private final int tileHeight;
+
+    /**
+     * Constructs a compiled level.
+     *
+     * @param data       the objects of the level
+     * @param width      the width of the map in tiles
+     * @param height     the height of the map in tiles
+     * @param tileWidth  the width of a tile in pixels
+     * @param tileHeight the height of a tile in pixels
+     */
+    LevelFile(final LevelData data, final int width, final int height, final int tileWidth, final int tileHeight) {
+        this.data = data;
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+    }
+
+    /**
+     * Reads a compiled level.
+     *
+     * @param file the compiled level
+     * @return the level
+     */
+    public static LevelFile read(final FileHandle file) {
+        ByteBuffer buffer;
+        try {
+            buffer = file.map();
+        } catch (GdxRuntimeException e) {
+            buffer = ByteBuffer.wrap(file.readBytes());
+        }
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.getInt() != MAGIC) {
+            throw new GdxRuntimeException(file + " is not a compiled level");
+        }
+        int version = buffer.get() & 0xFF;
+        if (version != VERSION) {
+            throw new GdxRuntimeException("Unsupported compiled level version " + version + " in " + file);
+        }
+        LevelData data = new LevelData();
+        readData(buffer, data);
+        LevelFile level = new LevelFile(data, buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt());
+        int tileSetCount = buffer.getInt();
+        for (int i = 0; i < tileSetCount; i++) {
+            level.tileSets.add(new TileSet(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                    buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                    readString(buffer)));
+        }
+        int layerCount = buffer.getInt();
+        for (int i = 0; i < layerCount; i++) {
+            Layer layer = new Layer(buffer.getInt(), readString(buffer), buffer.get() != 0, buffer.getFloat(),
+                    buffer.getFloat(), buffer.getFloat());
+            if (buffer.get() != 0) {
+                layer.setTiles(buffer.getInt(), buffer.getInt());
+                buffer.asIntBuffer().get(layer.tiles);
+                buffer.position(buffer.position() + layer.tiles.length * Integer.SIZE / Byte.SIZE);
+            }
+            level.layers.add(layer);
+        }
+        return level;
+    }
+
+    /**
+     * Reads the objects of the level.
+     *
+     * @param buffer the buffer positioned at the objects
+     * @param data   the description the objects are added to
+     */
+    private static void readData(final ByteBuffer buffer, final LevelData data) {
+        float[] vertices = new float[0];
+        int chainCount = buffer.getInt();
+        for (int i = 0; i < chainCount; i++) {
+            boolean loop = buffer.get() != 0;
+            vertices = readFloats(buffer, vertices);
+            data.addChain(vertices, 0, vertices.length, loop);
+        }
+        int doorCount = buffer.getInt();
+        for (int i = 0; i < doorCount; i++) {
+            float x = buffer.getFloat();
+            float y = buffer.getFloat();
+            vertices = readFloats(buffer, vertices);
+            data.addDoor(x, y, vertices, 0, vertices.length);
+        }
+        readStrided(buffer, data.getDeathZones());
+        readStrided(buffer, data.getCoins());
+        readStrided(buffer, data.getMushrooms());
+    }
+
+    /**
+     * Reads a length-prefixed run of floats.
+     *
+     * @param buffer   the buffer
+     * @param previous the array read last, reused if it has the same length
+     * @return the floats
+     */
+    private static float[] readFloats(final ByteBuffer buffer, final float[] previous) {
+        int length = buffer.getInt();
+        float[] floats = previous.length == length ? previous : new float[length];
+        buffer.asFloatBuffer().get(floats);
+        buffer.position(buffer.position() + length * Float.SIZE / Byte.SIZE);
+        return floats;
+    }
+
+    /**
+     * Reads a length-prefixed run of floats into an array.
+     *
+     * @param buffer the buffer
+     * @param floats the array the floats are added to
+     */
+    private static void readStrided(final ByteBuffer buffer, final FloatArray floats) {
+        int length = buffer.getInt();
+        float[] items = floats.ensureCapacity(length);
+        buffer.asFloatBuffer().get(items, floats.size, length);
+        floats.size += length;
+        buffer.position(buffer.position() + length * Float.SIZE / Byte.SIZE);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string.
+     *
+     * @param buffer the buffer
+     * @return the string
+     */
+    private static String readString(final ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Writes a string as {@link #readString(ByteBuffer)} reads it: its length in UTF-8 bytes as an unsigned short,
+     * followed by the bytes.
+     *
+     * @param out    the stream
+     * @param string the string
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeString(final DataOutputStream out, final String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new GdxRuntimeException("A name of " + bytes.length + " bytes is longer than the "
+                    + MAX_STRING_BYTES + " a compiled level can hold");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the level.
+     *
+     * @param file the file to write
+     */
+    public void write(final FileHandle file) {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file.write(false)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            writeData(out);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(tileWidth);
+            out.writeInt(tileHeight);
+            out.writeInt(tileSets.size);
+            for (TileSet tileSet : tileSets) {
+                out.writeInt(tileSet.firstGid);
+                out.writeInt(tileSet.tileWidth);
+                out.writeInt(tileSet.tileHeight);
+                out.writeInt(tileSet.spacing);
+                out.writeInt(tileSet.margin);
+                out.writeInt(tileSet.columns);
+                out.writeInt(tileSet.tileCount);
+                out.writeInt(tileSet.offsetX);
+                out.writeInt(tileSet.offsetY);
+                writeString(out, tileSet.image);
+            }
+            out.writeInt(layers.size);
+            for (Layer layer : layers) {
+                out.writeInt(layer.parent);
+                writeString(out, layer.name);
+                out.writeBoolean(layer.visible);
+                out.writeFloat(layer.opacity);
+                out.writeFloat(layer.offsetX);
+                out.writeFloat(layer.offsetY);
+                out.writeBoolean(layer.tiles != null);
+                if (layer.tiles != null) {
+                    out.writeInt(layer.width);
+                    out.writeInt(layer.height);
+                    for (int tile : layer.tiles) {
+                        out.writeInt(tile);
+                    }
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write compiled level " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    /**
+     * Writes the objects of the level.
+     *
+     * @param out the stream
+     * @throws IOException if the stream cannot be written
+     */
+    private void writeData(final DataOutputStream out) throws IOException {
+        out.writeInt(data.getChainCount());
+        for (int i = 0; i < data.getChainCount(); i++) {
+            out.writeBoolean(data.isChainLoop(i));
+            writeFloats(out, data.getChainVertices(), data.getChainStarts().get(i), data.getChainLength(i));
+        }
+        out.writeInt(data.getDoorCount());
+        for (int i = 0; i < data.getDoorCount(); i++) {
+            out.writeFloat(data.getDoorPositions().get(i * 2));
+            out.writeFloat(data.getDoorPositions().get(i * 2 + 1));
+            writeFloats(out, data.getDoorVertices(), data.getDoorStarts().get(i), data.getDoorLength(i));
+        }
+        writeFloats(out, data.getDeathZones(), 0, data.getDeathZones().size);
+        writeFloats(out, data.getCoins(), 0, data.getCoins().size);
+        writeFloats(out, data.getMushrooms(), 0, data.getMushrooms().size);
+    }
+
+    /**
+     * Writes a length-prefixed run of floats.
+     *
+     * @param out    the stream
+     * @param floats the floats
+     * @param offset the index of the first float
+     * @param length the number of floats
+     * @throws IOException if the stream cannot be written
+     */
+    private static void writeFloats(final DataOutputStream out, final FloatArray floats, final int offset,
+                                    final int length) throws IOException {
+        out.writeInt(length);
+        for (int i = offset; i < offset + length; i++) {
+            out.writeFloat(floats.get(i));
+        }
+    }
+
+    /**
+     * Adds a tile set.
+     *
+     * @param tileSet the tile set
+     */
+    void addTileSet(final TileSet tileSet) {
+        tileSets.add(tileSet);
+    }
+
+    /**
+     * Adds a layer after the layers added so far.
+     *
+     * @param layer the layer
+     * @return the index of the layer, used as the parent of the layers it groups
+     */
+    int addLayer(final Layer layer) {
+        layers.add(layer);
+        return layers.size - 1;
+    }
+
+    /**
+     * Creates the tile map of the level, loading the images of its tile sets.
+     * The map holds the tile layers only; the objects are described by {@link #getData()}. The cells with the same
+     * tile and flips are one shared cell, so a long level holds one reference per tile rather than one cell.
+     *
+     * @return the map, which owns the textures of the tile sets
+     */
+    public TiledMap createMap() {
+        TiledMap map = new TiledMap();
+        MapProperties properties = map.getProperties();
+        properties.put("width", width);
+        properties.put("height", height);
+        properties.put("tilewidth", tileWidth);
+        properties.put("tileheight", tileHeight);
+        Array<Texture> textures = new Array<>();
+        for (TileSet tileSet : tileSets) {
+            Texture texture = new Texture(Gdx.files.internal(tileSet.image));
+            textures.add(texture);
+            map.getTileSets().addTileSet(tileSet.createTiles(texture));
+        }
+        map.setOwnedResources(textures);
+        Array<MapLayer> created = new Array<>(layers.size);
+        IntMap<TiledMapTileLayer.Cell> cells = new IntMap<>();
+        for (Layer layer : layers) {
+            MapLayer mapLayer = layer.tiles != null ? layer.createTileLayer(map.getTileSets(), tileWidth,
+                    tileHeight, cells) : new MapGroupLayer();
+            mapLayer.setName(layer.name);
+            mapLayer.setVisible(layer.visible);
+            mapLayer.setOpacity(layer.opacity);
+            mapLayer.setOffsetX(layer.offsetX);
+            mapLayer.setOffsetY(layer.offsetY);
+            MapLayers parentLayers = map.getLayers();
+            if (layer.parent != NO_PARENT) {
+                MapGroupLayer parent = (MapGroupLayer) created.get(layer.parent);
+                parentLayers = parent.getLayers();
+                mapLayer.setParent(parent);
+            }
+            parentLayers.add(mapLayer);
+            created.add(mapLayer);
+        }
+        return map;
+    }
+
+    /**
+     * Returns the objects of the level.
+     *
+     * @return the level data
+     */
+    public LevelData getData() {
+        return data;
+    }
+
+    /**
+     * Returns the number of tile ids stored in the level.
+     *
+     * @return the number of tile ids
+     */
+    public int getTileCount() {
+        int count = 0;
+        for (Layer layer : layers) {
+            if (layer.tiles != null) {
+                count += layer.tiles.length;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the string representation of LevelFile.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "LevelFile{" + "data=" + data + ", width=" + width + ", height=" + height + ", tileSets="
+                + tileSets.size + ", layers=" + layers.size + '}';
+    }
+
+    /**
+     * A tile set, cut from one image.
+     */
+    static final class TileSet {
+        private final int firstGid;
+        private final int tileWidth;
+        private final int tileHeight;
+        private final int spacing;
+        private final int margin;
+        private final int columns;
+        private final int tileCount;
+        private final int offsetX;
+        private final int offsetY;
+        private final String image;
+
+        /**
+         * Constructs a tile set.
+         *
+         * @param firstGid   the id of the first tile
+         * @param tileWidth  the width of a tile in pixels
+         * @param tileHeight the height of a tile in pixels
+         * @param spacing    the pixels between two tiles of the image
+         * @param margin     the pixels around the tiles of the image
+         * @param columns    the number of tiles in a row of the image
+         * @param tileCount  the number of tiles
+         * @param offsetX    the horizontal offset the tiles are drawn at
+         * @param offsetY    the vertical offset the tiles are drawn at, y down as in the TMX file
+         * @param image      the internal path of the image
+         */
+        TileSet(final int firstGid, final int tileWidth, final int tileHeight, final int spacing, final int margin,
+                final int columns, final int tileCount, final int offsetX, final int offsetY, final String image) {
+            this.firstGid = firstGid;
+            this.tileWidth = tileWidth;
+            this.tileHeight = tileHeight;
+            this.spacing = spacing;
+            this.margin = margin;
+            this.columns = columns;
+            this.tileCount = tileCount;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.image = image;
+        }
+
+        /**
+         * Cuts the tiles from the image of the tile set, numbered as the TMX loader does.
+         *
+         * @param texture the image of the tile set
+         * @return the tiles
+         */
+        TiledMapTileSet createTiles(final Texture texture) {
+            TiledMapTileSet tiles = new TiledMapTileSet();
+            for (int i = 0; i < tileCount; i++) {
+                int x = margin + i % columns * (tileWidth + spacing);
+                int y = margin + i / columns * (tileHeight + spacing);
+                StaticTiledMapTile tile = new StaticTiledMapTile(new TextureRegion(texture, x, y, tileWidth,
+                        tileHeight));
+                tile.setId(firstGid + i);
+                tile.setOffsetX(offsetX);
+                tile.setOffsetY(-offsetY);
+                tiles.putTile(tile.getId(), tile);
+            }
+            return tiles;
+        }
+
+        /**
+         * Returns the string representation of TileSet.
+         *
+         * @return a string
+         */
+        @Override
+        public String toString() {
+            return "TileSet{" + "firstGid=" + firstGid + ", tileCount=" + tileCount + ", image=" + image + '}';
+        }
+    }
+
+    /**
+     * A tile layer, or a group of layers when it has no tiles.
+     */
+    static final class Layer {
+        private final int parent;
+        private final String name;
+        private final boolean visible;
+        private final float opacity;
+        private final float offsetX;
+        private final float offsetY;
+        private int width;
+        private int height;
+        private int[] tiles;
+
+        /**
+         * Constructs a layer without tiles.
+         *
+         * @param parent  the index of the group holding the layer, or -1 for a top level layer
+         * @param name    the name of the layer
+         * @param visible true if the layer is drawn
+         * @param opacity the opacity of the layer
+         * @param offsetX the horizontal offset of the layer in pixels
+         * @param offsetY the vertical offset of the layer in pixels, y down as in the TMX file
+         */
+        Layer(final int parent, final String name, final boolean visible, final float opacity, final float offsetX,
+              final float offsetY) {
+            this.parent = parent;
+            this.name = name;
+            this.visible = visible;
+            this.opacity = opacity;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+        }
+
+        /**
+         * Makes the layer a tile layer with no tiles set yet.
+         *
+         * @param layerWidth  the width of the layer in tiles
+         * @param layerHeight the height of the layer in tiles
+         * @return the tile ids, row by row from the top as in the TMX file, with their flip flags
+         */
+        int[] setTiles(final int layerWidth, final int layerHeight) {
+            width = layerWidth;
+            height = layerHeight;
+            tiles = new int[layerWidth * layerHeight];
+            return tiles;
+        }
+
+        /**
+         * Creates the tile layer, setting its cells as the TMX loader does but sharing the cells of the same tile
+         * id and flips. The shared cells must not be modified.
+         *
+         * @param tileSets   the tile sets of the map
+         * @param tileWidth  the width of a tile in pixels
+         * @param tileHeight the height of a tile in pixels
+         * @param cells      the cells created so far, by tile id with its flip flags
+         * @return the tile layer
+         */
+        TiledMapTileLayer createTileLayer(final TiledMapTileSets tileSets, final int tileWidth, final int tileHeight,
+                                          final IntMap<TiledMapTileLayer.Cell> cells) {
+            TiledMapTileLayer layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int id = tiles[y * width + x];
+                    if ((id & ~MASK_CLEAR) == 0) {
+                        continue;
+                    }
+                    TiledMapTileLayer.Cell cell = cells.get(id);
+                    if (cell == null) {
+                        cell = createCell((id & FLAG_FLIP_HORIZONTALLY) != 0, (id & FLAG_FLIP_VERTICALLY) != 0,
+                                (id & FLAG_FLIP_DIAGONALLY) != 0);
+                        cell.setTile(tileSets.getTile(id & ~MASK_CLEAR));
+                        cells.put(id, cell);
+                    }
+                    layer.setCell(x, height - 1 - y, cell);
+                }
+            }
+            return layer;
+        }
+
+        /**
+         * Creates a cell with the flips of a tile, turning a diagonal flip into a rotation as the TMX loader does.
+         *
+         * @param flipHorizontally true if the tile is flipped horizontally
+         * @param flipVertically   true if the tile is flipped vertically
+         * @param flipDiagonally   true if the tile is flipped diagonally
+         * @return the cell
+         */
+        private static TiledMapTileLayer.Cell createCell(final boolean flipHorizontally, final boolean flipVertically,
+                                                         final boolean flipDiagonally) {
+            TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+            if (!flipDiagonally) {
+                cell.setFlipHorizontally(flipHorizontally);
+                cell.setFlipVertically(flipVertically);
+            } else if (flipHorizontally && flipVertically) {
+                cell.setFlipHorizontally(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipHorizontally) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            } else if (flipVertically) {
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_90);
+            } else {
+                cell.setFlipVertically(true);
+                cell.setRotation(TiledMapTileLayer.Cell.ROTATE_270);
+            }
+            return cell;
+        }
+
+        /**
+         * Returns the string representation of Layer.
+         *
+         * @return a string
+         */
+        @Override
+        public String toString() {
+            return "Layer{" + "parent=" + parent + ", name=" + name + ", tiles=" + (tiles != null) + '}';
+        }
+    }
+}
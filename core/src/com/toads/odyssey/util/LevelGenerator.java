@@ -0,0 +1,225 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Generates levels of any length in memory, to measure how the game scales with the size of a level.
+ * The map has the object layers the first level is described from: a row of rectangular platforms in "objects",
+ * separated by gaps with a death zone at the bottom of each, coins above the platforms in "coins", mushrooms on
+ * them in "mushroom", and a door on the last platform in "door". The objects are placed as the TMX loader places
+ * them, in map pixels with y up. The same seed and sizes always give the same level.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class LevelGenerator {
+    /**
+     * The image of the tile set the platforms are drawn with.
+     */
+    public static final String TILE_SET_IMAGE = "tiles/tileset.png";
+    private static final int TILE_SIZE = 16;
+    private static final int MAP_HEIGHT = 20;
+    private static final int FIRST_WIDTH = 8;
+    private static final int LAST_WIDTH = 10;
+    private static final int MIN_WIDTH = 4;
+    private static final int MAX_WIDTH = 12;
+    private static final int MIN_HEIGHT = 2;
+    private static final int MAX_HEIGHT = 6;
+    private static final int MAX_STEP = 2;
+    private static final int MAX_GAP = 3;
+    private static final int MAX_COIN_HEIGHT = 3;
+    private static final int DEATH_ZONE_HEIGHT = 2;
+    private static final int DOOR_WIDTH = 64;
+    private static final int DOOR_HEIGHT = 80;
+    private static final int SURFACE_TILE = 1;
+    private static final int GROUND_TILE = 9;
+    private static final int TILE_SET_COLUMNS = 8;
+    private final long seed;
+    private final int platforms;
+    private final int coins;
+    private final int mushrooms;
+
+    /**
+     * Constructs a generator.
+     *
+     * @param seed      the seed of the random layout
+     * @param platforms the number of platforms, at least two
+     * @param coins     the number of coins
+     * @param mushrooms the number of mushrooms
+     */
+    public LevelGenerator(final long seed, final int platforms, final int coins, final int mushrooms) {
+        if (platforms < 2 || coins < 0 || mushrooms < 0) {
+            throw new IllegalArgumentException("A generated level needs at least two platforms and no negative counts");
+        }
+        this.seed = seed;
+        this.platforms = platforms;
+        this.coins = coins;
+        this.mushrooms = mushrooms;
+    }
+
+    /**
+     * Parses the sizes of a generated level given as "platforms,coins,mushrooms" or "platforms,coins,mushrooms,seed".
+     * The seed is 0 when it is not given.
+     *
+     * @param spec the sizes of the level
+     * @return the generator
+     */
+    public static LevelGenerator parse(final String spec) {
+        String[] parts = spec.split(",");
+        if (parts.length != 3 && parts.length != 4) {
+            throw new IllegalArgumentException("Expected platforms,coins,mushrooms[,seed] but got " + spec);
+        }
+        long seed = parts.length == 4 ? Long.parseLong(parts[3].trim()) : 0L;
+        return new LevelGenerator(seed, Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()),
+                Integer.parseInt(parts[2].trim()));
+    }
+
+    /**
+     * Generates the level.
+     *
+     * @param withTiles true to add a tile layer drawing the platforms, which loads the tile set image and needs a GL
+     *                  context; false for the object layers only
+     * @return the map, which owns the tile set texture if there is one
+     */
+    public TiledMap generate(final boolean withTiles) {
+        RandomXS128 random = new RandomXS128(seed);
+        IntArray lefts = new IntArray(platforms);
+        IntArray widths = new IntArray(platforms);
+        IntArray heights = new IntArray(platforms);
+        TiledMap map = new TiledMap();
+        MapLayer objects = addLayer(map, "objects");
+        MapLayer deathZones = addLayer(map, "death_zones");
+        int x = 0;
+        int height = MIN_HEIGHT;
+        for (int i = 0; i < platforms; i++) {
+            int width = MIN_WIDTH + random.nextInt(MAX_WIDTH - MIN_WIDTH + 1);
+            if (i == 0) {
+                width = FIRST_WIDTH;
+            } else if (i == platforms - 1) {
+                width = LAST_WIDTH;
+            }
+            if (i > 0) {
+                int gap = random.nextInt(MAX_GAP + 1);
+                if (gap > 0) {
+                    deathZones.getObjects().add(new RectangleMapObject(x * TILE_SIZE, 0, gap * TILE_SIZE,
+                            DEATH_ZONE_HEIGHT * TILE_SIZE));
+                }
+                x += gap;
+                int step = random.nextInt(2 * MAX_STEP + 1) - MAX_STEP;
+                height = Math.max(MIN_HEIGHT, Math.min(MAX_HEIGHT, height + step));
+            }
+            PolygonMapObject platform = new PolygonMapObject(new float[] {0, 0, width * TILE_SIZE, 0,
+                width * TILE_SIZE, height * TILE_SIZE, 0, height * TILE_SIZE});
+            platform.getPolygon().setPosition(x * TILE_SIZE, 0);
+            objects.getObjects().add(platform);
+            lefts.add(x);
+            widths.add(width);
+            heights.add(height);
+            x += width;
+        }
+        MapLayer coinLayer = addLayer(map, "coins");
+        for (int i = 0; i < coins; i++) {
+            int p = random.nextInt(platforms);
+            float coinX = (lefts.get(p) + random.nextInt(widths.get(p))) * TILE_SIZE;
+            float coinY = (heights.get(p) + 1 + random.nextInt(MAX_COIN_HEIGHT)) * TILE_SIZE;
+            coinLayer.getObjects().add(new RectangleMapObject(coinX, coinY, TILE_SIZE, TILE_SIZE));
+        }
+        MapLayer mushroomLayer = addLayer(map, "mushroom");
+        for (int i = 0; i < mushrooms; i++) {
+            int p = 1 + random.nextInt(platforms - 1);
+            mushroomLayer.getObjects().add(new RectangleMapObject((lefts.get(p) + random.nextInt(widths.get(p)))
+                    * TILE_SIZE, heights.get(p) * TILE_SIZE, TILE_SIZE, TILE_SIZE));
+        }
+        int last = platforms - 1;
+        PolygonMapObject door = new PolygonMapObject(new float[] {0, 0, 0, DOOR_HEIGHT, DOOR_WIDTH, DOOR_HEIGHT,
+            DOOR_WIDTH, 0});
+        door.getPolygon().setPosition((lefts.get(last) + widths.get(last)) * TILE_SIZE - DOOR_WIDTH * 2,
+                heights.get(last) * TILE_SIZE);
+        addLayer(map, "door").getObjects().add(door);
+        MapProperties properties = map.getProperties();
+        properties.put("width", x);
+        properties.put("height", MAP_HEIGHT);
+        properties.put("tilewidth", TILE_SIZE);
+        properties.put("tileheight", TILE_SIZE);
+        if (withTiles) {
+            addTiles(map, x, lefts, widths, heights);
+        }
+        return map;
+    }
+
+    /**
+     * Adds an empty object layer.
+     *
+     * @param map  the map
+     * @param name the name of the layer
+     * @return the layer
+     */
+    private static MapLayer addLayer(final TiledMap map, final String name) {
+        MapLayer layer = new MapLayer();
+        layer.setName(name);
+        map.getLayers().add(layer);
+        return layer;
+    }
+
+    /**
+     * Adds a tile layer drawing the platforms, with a surface tile on top of each column and ground tiles under it.
+     *
+     * @param map     the map
+     * @param width   the width of the map in tiles
+     * @param lefts   the left column of each platform
+     * @param widths  the width of each platform in tiles
+     * @param heights the height of each platform in tiles
+     */
+    private static void addTiles(final TiledMap map, final int width, final IntArray lefts, final IntArray widths,
+                                 final IntArray heights) {
+        Texture texture = new Texture(Gdx.files.internal(TILE_SET_IMAGE));
+        map.setOwnedResources(Array.with(texture));
+        TiledMapTileLayer.Cell surface = new TiledMapTileLayer.Cell().setTile(createTile(texture, SURFACE_TILE));
+        TiledMapTileLayer.Cell ground = new TiledMapTileLayer.Cell().setTile(createTile(texture, GROUND_TILE));
+        TiledMapTileLayer layer = new TiledMapTileLayer(width, MAP_HEIGHT, TILE_SIZE, TILE_SIZE);
+        layer.setName("platform_tiles");
+        for (int p = 0; p < lefts.size; p++) {
+            for (int col = lefts.get(p); col < lefts.get(p) + widths.get(p); col++) {
+                for (int row = 0; row < heights.get(p); row++) {
+                    layer.setCell(col, row, row == heights.get(p) - 1 ? surface : ground);
+                }
+            }
+        }
+        map.getLayers().add(layer);
+    }
+
+    /**
+     * Creates a tile cut from the tile set image.
+     *
+     * @param texture the tile set image
+     * @param index   the index of the tile in the image, row by row
+     * @return the tile
+     */
+    private static StaticTiledMapTile createTile(final Texture texture, final int index) {
+        return new StaticTiledMapTile(new TextureRegion(texture, index % TILE_SET_COLUMNS * TILE_SIZE,
+                index / TILE_SET_COLUMNS * TILE_SIZE, TILE_SIZE, TILE_SIZE));
+    }
+
+    /**
+     * Returns the string representation of LevelGenerator.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "LevelGenerator{" + "seed=" + seed + ", platforms=" + platforms + ", coins=" + coins + ", mushrooms="
+                + mushrooms + '}';
+    }
+}
@@ -1,8 +1,10 @@
 package com.toads.odyssey.util;
 
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.physics.box2d.World;
+import com.toads.odyssey.model.LevelSimulation;
 import com.toads.odyssey.model.Player;
-import com.toads.odyssey.view.LevelBase;
 
 /**
  * Manages the game level and its objects.
@@ -12,8 +14,16 @@ import com.toads.odyssey.view.LevelBase;
  */
 public final class LevelManager {
     private static LevelManager instance;
+    private LevelSimulation level;
     private World world;
     private Player player;
+    private float accumulator = 0f;
+    private float alpha = 1f;
+    private int stepsLastFrame = 0;
+    private float droppedTimeLastFrame = 0f;
+    private long totalSteps = 0;
+    private long totalFrames = 0;
+    private double totalDroppedTime = 0;
 
     /**
      * Prevents instantiation.
@@ -34,28 +44,126 @@ public final class LevelManager {
 
     /**
      * Sets the level.
-     * @param levelBase level to set
+     * @param level level to set
      */
-    public void setLevelBase(final LevelBase levelBase) {
-        this.world = levelBase.getWorld();
-        this.player = levelBase.getPlayer();
+    public void setLevel(final LevelSimulation level) {
+        this.level = level;
+        this.world = level.getWorld();
+        this.player = level.getPlayer();
+        accumulator = 0f;
+        alpha = 1f;
+        totalSteps = 0;
+        totalFrames = 0;
+        totalDroppedTime = 0;
     }
 
     /**
-     * Updates the level.
+     * Updates the level by stepping the physics world at a fixed rate.
+     * The frame time is accumulated and consumed in steps of {@link Constants#TIME_STEP}, so the simulation speed
+     * does not depend on the frame rate. The leftover time is used to interpolate the player between the last two
+     * physics states.
+     * Every tick consumes one input frame, even while the level is paused, so that pause events are replayed on the
+     * same tick they were recorded on; the world is only stepped while the level is running.
+     * The player's animation state is not updated here; that is done once per frame in the animation phase.
      * @param deltaTime time between frames
      */
     public void update(final float deltaTime) {
-        handleUserInput();
-        world.step(Constants.TIME_STEP, Constants.VELOCITY_ITERATIONS, Constants.POSITION_ITERATIONS);
-        player.update(deltaTime);
+        float frameTime = deltaTime;
+        droppedTimeLastFrame = 0f;
+        if (frameTime > Constants.MAX_FRAME_TIME) {
+            droppedTimeLastFrame = frameTime - Constants.MAX_FRAME_TIME;
+            frameTime = Constants.MAX_FRAME_TIME;
+        }
+        accumulator += frameTime;
+        int steps = 0;
+        while (accumulator >= Constants.TIME_STEP && steps < Constants.MAX_STEPS_PER_FRAME) {
+            handleUserInput();
+            if (!level.isPaused()) {
+                player.savePreviousPosition();
+                world.step(Constants.TIME_STEP, Constants.VELOCITY_ITERATIONS, Constants.POSITION_ITERATIONS);
+            }
+            accumulator -= Constants.TIME_STEP;
+            steps++;
+        }
+        if (accumulator >= Constants.TIME_STEP) {
+            float backlog = accumulator - accumulator % Constants.TIME_STEP;
+            droppedTimeLastFrame += backlog;
+            accumulator -= backlog;
+        }
+        recordFrame(steps);
+        alpha = accumulator / Constants.TIME_STEP;
+        player.setInterpolationAlpha(alpha);
+    }
+
+    /**
+     * Records the step and dropped time counters of the frame that just ran.
+     * @param steps the number of physics steps taken this frame
+     */
+    private void recordFrame(final int steps) {
+        stepsLastFrame = steps;
+        totalSteps += steps;
+        totalFrames++;
+        if (droppedTimeLastFrame > 0) {
+            totalDroppedTime += droppedTimeLastFrame;
+            if (Gdx.app.getLogLevel() >= Application.LOG_DEBUG) {
+                Gdx.app.debug("LevelManager", "Dropped " + droppedTimeLastFrame + "s of simulation time");
+            }
+        }
     }
 
     /**
-     * Handles user input for the player.
+     * Handles the user input of one tick.
      */
     public void handleUserInput() {
-        player.handleKeyPressed();
+        level.applyTickInput();
+    }
+
+    /**
+     * Returns the interpolation factor between the previous and current physics state.
+     * @return a value between 0 and 1
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Returns the number of physics steps taken during the last frame.
+     * @return the number of steps of the last frame
+     */
+    public int getStepsLastFrame() {
+        return stepsLastFrame;
+    }
+
+    /**
+     * Returns the simulation time dropped during the last frame, in seconds.
+     * @return the dropped time of the last frame
+     */
+    public float getDroppedTimeLastFrame() {
+        return droppedTimeLastFrame;
+    }
+
+    /**
+     * Returns the number of physics steps taken since the level was set.
+     * @return the total number of steps
+     */
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * Returns the number of frames updated since the level was set.
+     * @return the total number of frames
+     */
+    public long getTotalFrames() {
+        return totalFrames;
+    }
+
+    /**
+     * Returns the simulation time dropped since the level was set, in seconds.
+     * @return the total dropped time
+     */
+    public double getTotalDroppedTime() {
+        return totalDroppedTime;
     }
 
     /**
@@ -64,6 +172,9 @@ public final class LevelManager {
      */
     @Override
     public String toString() {
-        return "LevelManager{" + "world=" + world + ", player=" + player + '}';
+        return "LevelManager{" + "level=" + level + ", world=" + world + ", player=" + player + ", accumulator="
+                + accumulator + ", alpha=" + alpha + ", stepsLastFrame=" + stepsLastFrame + ", droppedTimeLastFrame="
+                + droppedTimeLastFrame + ", totalSteps=" + totalSteps + ", totalFrames=" + totalFrames
+                + ", totalDroppedTime=" + totalDroppedTime + '}';
     }
 }
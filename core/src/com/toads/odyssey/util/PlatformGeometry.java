@@ -0,0 +1,428 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.toads.odyssey.model.LevelData;
+
+/**
+ * Compiles the platform polygons of a level into as few collision chains as possible.
+ * <p>
+ * The platforms are drawn in Tiled as many small polygons that touch each other, and each was a chain of its own,
+ * so the player walked over seams between chains and every edge between two touching polygons was a broadphase
+ * proxy although nothing can ever reach it. The compiler welds vertices closer than Box2D's linear slop, splits
+ * edges where another polygon's vertex lies on them, drops every edge that two polygons share from opposite sides,
+ * joins the remaining edges into chains and loops through their shared endpoints, and drops the vertices in the
+ * middle of straight runs. The vertices are kept in a grid, so welding a vertex or splitting an edge only looks at
+ * the vertices near it.
+ * <p>
+ * As before, only the edges of a polygon's chain collide; the closing edge from its last vertex back to its first
+ * is only used to find the edges it hides.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class PlatformGeometry {
+    private static final float WELD_DISTANCE = 0.005f;
+    private static final float COLLINEAR_TOLERANCE = 1e-4f;
+    private static final int MIN_LOOP_VERTICES = 3;
+    private static final float CELL_SIZE = 1f;
+    private final FloatArray points = new FloatArray();
+    private final LongMap<IntArray> cells = new LongMap<>();
+    private final IntArray nearby = new IntArray();
+    private final IntArray polygonStarts = new IntArray();
+    private final IntArray polygonVertices = new IntArray();
+    private final IntArray edgeFrom = new IntArray();
+    private final IntArray edgeTo = new IntArray();
+    private final IntArray edgePolygon = new IntArray();
+    private final IntArray edgeSolid = new IntArray();
+
+    /**
+     * Adds a platform polygon, in world units.
+     *
+     * @param vertices the vertices of the polygon's chain, as x and y pairs
+     * @param offset   the index of the first vertex coordinate
+     * @param length   the number of vertex coordinates
+     */
+    public void addPolygon(final float[] vertices, final int offset, final int length) {
+        polygonStarts.add(polygonVertices.size);
+        int previous = -1;
+        for (int i = offset; i < offset + length; i += 2) {
+            int vertex = weld(vertices[i], vertices[i + 1]);
+            if (vertex != previous) {
+                polygonVertices.add(vertex);
+                previous = vertex;
+            }
+        }
+    }
+
+    /**
+     * Compiles the polygons added so far and adds the resulting chains to a level.
+     *
+     * @param data the description of the level
+     */
+    public void compile(final LevelData data) {
+        collectEdges();
+        LongMap<IntArray> polygonsByEdge = new LongMap<>();
+        IntArray splitFrom = new IntArray();
+        IntArray splitTo = new IntArray();
+        IntArray splitPolygon = new IntArray();
+        IntArray splitSolid = new IntArray();
+        for (int e = 0; e < edgeFrom.size; e++) {
+            splitEdge(e, splitFrom, splitTo, splitPolygon, splitSolid);
+        }
+        for (int e = 0; e < splitFrom.size; e++) {
+            long key = key(splitFrom.get(e), splitTo.get(e));
+            IntArray polygons = polygonsByEdge.get(key);
+            if (polygons == null) {
+                polygons = new IntArray(2);
+                polygonsByEdge.put(key, polygons);
+            }
+            polygons.add(splitPolygon.get(e));
+        }
+        IntArray from = new IntArray();
+        IntArray to = new IntArray();
+        LongMap<Boolean> kept = new LongMap<>();
+        for (int e = 0; e < splitFrom.size; e++) {
+            int a = splitFrom.get(e);
+            int b = splitTo.get(e);
+            if (splitSolid.get(e) == 0 || isShared(polygonsByEdge.get(key(b, a)), splitPolygon.get(e))
+                    || kept.containsKey(key(a, b))) {
+                continue;
+            }
+            kept.put(key(a, b), Boolean.TRUE);
+            from.add(a);
+            to.add(b);
+        }
+        joinChains(from, to, data);
+    }
+
+    /**
+     * Returns the index of the vertex at a position, adding it unless a vertex is within the weld distance.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the index of the vertex
+     */
+    private int weld(final float x, final float y) {
+        findNearby(x - WELD_DISTANCE, y - WELD_DISTANCE, x + WELD_DISTANCE, y + WELD_DISTANCE);
+        for (int i = 0; i < nearby.size; i++) {
+            int v = nearby.get(i);
+            if (Math.abs(points.get(v * 2) - x) <= WELD_DISTANCE
+                    && Math.abs(points.get(v * 2 + 1) - y) <= WELD_DISTANCE) {
+                return v;
+            }
+        }
+        points.add(x, y);
+        int vertex = points.size / 2 - 1;
+        long cell = cell(cellIndex(x), cellIndex(y));
+        IntArray inCell = cells.get(cell);
+        if (inCell == null) {
+            inCell = new IntArray(4);
+            cells.put(cell, inCell);
+        }
+        inCell.add(vertex);
+        return vertex;
+    }
+
+    /**
+     * Collects the vertices of the grid cells overlapping a box into the nearby vertices, in the order they were
+     * added, so that the first one found is the one a scan of every vertex would have found.
+     *
+     * @param minX the left of the box
+     * @param minY the bottom of the box
+     * @param maxX the right of the box
+     * @param maxY the top of the box
+     */
+    private void findNearby(final float minX, final float minY, final float maxX, final float maxY) {
+        nearby.clear();
+        int lastColumn = cellIndex(maxX);
+        int lastRow = cellIndex(maxY);
+        for (int column = cellIndex(minX); column <= lastColumn; column++) {
+            for (int row = cellIndex(minY); row <= lastRow; row++) {
+                IntArray inCell = cells.get(cell(column, row));
+                if (inCell != null) {
+                    nearby.addAll(inCell);
+                }
+            }
+        }
+        nearby.sort();
+    }
+
+    /**
+     * Returns the index of the grid cell a coordinate lies in.
+     *
+     * @param coordinate the x or y coordinate
+     * @return the column or row of the cell
+     */
+    private static int cellIndex(final float coordinate) {
+        return MathUtils.floor(coordinate / CELL_SIZE);
+    }
+
+    /**
+     * Returns the key of a grid cell.
+     *
+     * @param column the column of the cell
+     * @param row    the row of the cell
+     * @return the key
+     */
+    private static long cell(final int column, final int row) {
+        return (long) column << 32 | row & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Collects the edges of every polygon, oriented counterclockwise so that two polygons sharing an edge from
+     * opposite sides hold it in opposite directions. The edges of the chain are solid; the closing edge is not.
+     */
+    private void collectEdges() {
+        for (int p = 0; p < polygonStarts.size; p++) {
+            int start = polygonStarts.get(p);
+            int end = p + 1 < polygonStarts.size ? polygonStarts.get(p + 1) : polygonVertices.size;
+            boolean clockwise = signedArea(start, end) < 0;
+            for (int i = start; i < end; i++) {
+                int a = polygonVertices.get(i);
+                boolean closing = i == end - 1;
+                int b = polygonVertices.get(closing ? start : i + 1);
+                if (a == b) {
+                    continue;
+                }
+                edgeFrom.add(clockwise ? b : a);
+                edgeTo.add(clockwise ? a : b);
+                edgePolygon.add(p);
+                edgeSolid.add(closing ? 0 : 1);
+            }
+        }
+    }
+
+    /**
+     * Returns twice the signed area of a polygon, positive if its vertices turn counterclockwise.
+     *
+     * @param start the index of its first vertex in the polygon vertices
+     * @param end   the index after its last vertex
+     * @return twice the signed area
+     */
+    private float signedArea(final int start, final int end) {
+        float area = 0;
+        for (int i = start; i < end; i++) {
+            int a = polygonVertices.get(i) * 2;
+            int b = polygonVertices.get(i + 1 < end ? i + 1 : start) * 2;
+            area += points.get(a) * points.get(b + 1) - points.get(b) * points.get(a + 1);
+        }
+        return area;
+    }
+
+    /**
+     * Splits an edge at every vertex lying on it, so that edges only ever overlap end to end.
+     *
+     * @param edge     the index of the edge
+     * @param from     the start vertices of the split edges
+     * @param to       the end vertices of the split edges
+     * @param polygons the polygons of the split edges
+     * @param solid    whether each split edge collides
+     */
+    private void splitEdge(final int edge, final IntArray from, final IntArray to, final IntArray polygons,
+                           final IntArray solid) {
+        int a = edgeFrom.get(edge);
+        int b = edgeTo.get(edge);
+        float ax = points.get(a * 2);
+        float ay = points.get(a * 2 + 1);
+        float dx = points.get(b * 2) - ax;
+        float dy = points.get(b * 2 + 1) - ay;
+        float lengthSquared = dx * dx + dy * dy;
+        float length = (float) Math.sqrt(lengthSquared);
+        FloatArray cuts = new FloatArray();
+        IntArray cutVertices = new IntArray();
+        findNearby(Math.min(ax, ax + dx) - WELD_DISTANCE, Math.min(ay, ay + dy) - WELD_DISTANCE,
+                Math.max(ax, ax + dx) + WELD_DISTANCE, Math.max(ay, ay + dy) + WELD_DISTANCE);
+        for (int i = 0; i < nearby.size; i++) {
+            int v = nearby.get(i);
+            if (v == a || v == b) {
+                continue;
+            }
+            float px = points.get(v * 2) - ax;
+            float py = points.get(v * 2 + 1) - ay;
+            float t = (px * dx + py * dy) / lengthSquared;
+            if (t > 0 && t < 1 && Math.abs(px * dy - py * dx) / length <= WELD_DISTANCE) {
+                int at = 0;
+                while (at < cuts.size && cuts.get(at) < t) {
+                    at++;
+                }
+                cuts.insert(at, t);
+                cutVertices.insert(at, v);
+            }
+        }
+        int previous = a;
+        for (int i = 0; i <= cutVertices.size; i++) {
+            int next = i < cutVertices.size ? cutVertices.get(i) : b;
+            from.add(previous);
+            to.add(next);
+            polygons.add(edgePolygon.get(edge));
+            solid.add(edgeSolid.get(edge));
+            previous = next;
+        }
+    }
+
+    /**
+     * Returns true if a polygon other than the given one holds the edge.
+     *
+     * @param polygons the polygons holding the edge, or null
+     * @param polygon  the polygon
+     * @return true if the edge is shared with another polygon
+     */
+    private static boolean isShared(final IntArray polygons, final int polygon) {
+        if (polygons == null) {
+            return false;
+        }
+        for (int i = 0; i < polygons.size; i++) {
+            if (polygons.get(i) != polygon) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Joins the kept edges into chains through the vertices where exactly two edges meet, then into loops for the
+     * cycles left, and adds them to the level.
+     *
+     * @param from the start vertices of the edges
+     * @param to   the end vertices of the edges
+     * @param data the description of the level
+     */
+    private void joinChains(final IntArray from, final IntArray to, final LevelData data) {
+        int vertexCount = points.size / 2;
+        int[] degree = new int[vertexCount];
+        for (int e = 0; e < from.size; e++) {
+            degree[from.get(e)]++;
+            degree[to.get(e)]++;
+        }
+        int[] firstEdge = new int[vertexCount + 1];
+        for (int v = 0; v < vertexCount; v++) {
+            firstEdge[v + 1] = firstEdge[v] + degree[v];
+        }
+        int[] incident = new int[from.size * 2];
+        int[] filled = new int[vertexCount];
+        for (int e = 0; e < from.size; e++) {
+            incident[firstEdge[from.get(e)] + filled[from.get(e)]++] = e;
+            incident[firstEdge[to.get(e)] + filled[to.get(e)]++] = e;
+        }
+        boolean[] used = new boolean[from.size];
+        IntArray chain = new IntArray();
+        for (int v = 0; v < vertexCount; v++) {
+            if (degree[v] == 2) {
+                continue;
+            }
+            for (int i = firstEdge[v]; i < firstEdge[v + 1]; i++) {
+                if (!used[incident[i]]) {
+                    walk(v, incident[i], from, to, degree, firstEdge, incident, used, chain);
+                    addChain(chain, false, data);
+                }
+            }
+        }
+        for (int e = 0; e < from.size; e++) {
+            if (!used[e]) {
+                walk(from.get(e), e, from, to, degree, firstEdge, incident, used, chain);
+                chain.pop();
+                addChain(chain, true, data);
+            }
+        }
+    }
+
+    /**
+     * Walks from a vertex along an edge and on through every vertex where exactly two edges meet.
+     *
+     * @param start     the vertex to start from
+     * @param edge      the edge to leave it by
+     * @param from      the start vertices of the edges
+     * @param to        the end vertices of the edges
+     * @param degree    the number of edges of each vertex
+     * @param firstEdge the index in incident of the first edge of each vertex
+     * @param incident  the edges of each vertex
+     * @param used      whether each edge is already in a chain
+     * @param chain     the vertices walked, cleared first
+     */
+    private static void walk(final int start, final int edge, final IntArray from, final IntArray to,
+                             final int[] degree, final int[] firstEdge, final int[] incident, final boolean[] used,
+                             final IntArray chain) {
+        chain.clear();
+        chain.add(start);
+        int vertex = start;
+        int next = edge;
+        while (next >= 0) {
+            used[next] = true;
+            vertex = from.get(next) == vertex ? to.get(next) : from.get(next);
+            chain.add(vertex);
+            next = -1;
+            if (degree[vertex] == 2) {
+                for (int i = firstEdge[vertex]; i < firstEdge[vertex + 1]; i++) {
+                    if (!used[incident[i]]) {
+                        next = incident[i];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a chain to the level without the vertices in the middle of straight runs.
+     *
+     * @param chain the vertices of the chain
+     * @param loop  true if the chain closes on itself
+     * @param data  the description of the level
+     */
+    private void addChain(final IntArray chain, final boolean loop, final LevelData data) {
+        FloatArray vertices = new FloatArray(chain.size * 2);
+        for (int i = 0; i < chain.size; i++) {
+            boolean end = !loop && (i == 0 || i == chain.size - 1);
+            if (end || !isStraight(chain.get((i + chain.size - 1) % chain.size), chain.get(i),
+                    chain.get((i + 1) % chain.size))) {
+                vertices.add(points.get(chain.get(i) * 2), points.get(chain.get(i) * 2 + 1));
+            }
+        }
+        if (loop && vertices.size < MIN_LOOP_VERTICES * 2) {
+            return;
+        }
+        data.addChain(vertices.items, 0, vertices.size, loop);
+    }
+
+    /**
+     * Returns true if a vertex lies on the straight line from the previous vertex to the next, going forward.
+     *
+     * @param previous the previous vertex
+     * @param vertex   the vertex
+     * @param next     the next vertex
+     * @return true if the vertex can be dropped
+     */
+    private boolean isStraight(final int previous, final int vertex, final int next) {
+        float ax = points.get(vertex * 2) - points.get(previous * 2);
+        float ay = points.get(vertex * 2 + 1) - points.get(previous * 2 + 1);
+        float bx = points.get(next * 2) - points.get(vertex * 2);
+        float by = points.get(next * 2 + 1) - points.get(vertex * 2 + 1);
+        float cross = ax * by - ay * bx;
+        float lengths = (float) Math.sqrt((ax * ax + ay * ay) * (bx * bx + by * by));
+        return ax * bx + ay * by > 0 && Math.abs(cross) <= COLLINEAR_TOLERANCE * lengths;
+    }
+
+    /**
+     * Returns the key of a directed edge.
+     *
+     * @param from the start vertex
+     * @param to   the end vertex
+     * @return the key
+     */
+    private static long key(final int from, final int to) {
+        return (long) from << Integer.SIZE | to & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Returns the string representation of PlatformGeometry.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "PlatformGeometry{" + "vertices=" + points.size / 2 + ", polygons=" + polygonStarts.size
+                + ", edges=" + edgeFrom.size + '}';
+    }
+}
@@ -0,0 +1,110 @@
+package com.toads.odyssey.util;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the last values recorded, in a fixed-size window, and reports their percentiles.
+ * Recording only writes into a ring and the percentiles sort a preallocated copy, so neither allocates.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class RollingHistogram {
+    private static final double PERCENT = 100.0;
+    private final long[] window;
+    private final long[] sorted;
+    private int next = 0;
+    private int count = 0;
+    private boolean dirty = false;
+
+    /**
+     * Constructs a rolling histogram.
+     *
+     * @param capacity the number of most recent values kept
+     */
+    public RollingHistogram(final int capacity) {
+        window = new long[capacity];
+        sorted = new long[capacity];
+    }
+
+    /**
+     * Records a value, replacing the oldest one once the window is full.
+     *
+     * @param value the value
+     */
+    public void record(final long value) {
+        window[next] = value;
+        next = (next + 1) % window.length;
+        if (count < window.length) {
+            count++;
+        }
+        dirty = true;
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded values fall.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile, or 0 if nothing was recorded
+     */
+    public long getPercentile(final double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        sort();
+        int index = (int) Math.ceil(percentile / PERCENT * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    /**
+     * Returns the largest value in the window.
+     *
+     * @return the largest value, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        if (count == 0) {
+            return 0;
+        }
+        sort();
+        return sorted[count - 1];
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return the number of values
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Forgets every recorded value.
+     */
+    public void clear() {
+        next = 0;
+        count = 0;
+        dirty = false;
+    }
+
+    /**
+     * Sorts the window into the copy the percentiles are read from, if it changed.
+     */
+    private void sort() {
+        if (dirty) {
+            System.arraycopy(window, 0, sorted, 0, count);
+            Arrays.sort(sorted, 0, count);
+            dirty = false;
+        }
+    }
+
+    /**
+     * Returns the string representation of RollingHistogram.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "RollingHistogram{" + "capacity=" + window.length + ", count=" + count + '}';
+    }
+}
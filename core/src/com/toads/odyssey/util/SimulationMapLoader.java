@@ -0,0 +1,77 @@
+package com.toads.odyssey.util;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.XmlReader.Element;
+
+/**
+ * A map loader that only reads the object layers of a TMX map.
+ * Tile sets, tile layers and image layers are skipped, so no textures are created and the map can be loaded
+ * without a GL context, e.g. under the headless backend.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class SimulationMapLoader extends TmxMapLoader {
+
+    /**
+     * Returns no texture files, so that the tile set images are never loaded.
+     *
+     * @param tmxFile the map file
+     * @return an empty array
+     */
+    @Override
+    protected Array<FileHandle> getDependencyFileHandles(final FileHandle tmxFile) {
+        return new Array<>();
+    }
+
+    /**
+     * Skips the tile sets.
+     *
+     * @param element       the tile set element
+     * @param tmxFile       the map file
+     * @param imageResolver the image resolver
+     */
+    @Override
+    protected void loadTileSet(final Element element, final FileHandle tmxFile, final ImageResolver imageResolver) {
+    }
+
+    /**
+     * Skips the tile layers.
+     *
+     * @param map          the map
+     * @param parentLayers the layers the tile layer would be added to
+     * @param element      the tile layer element
+     */
+    @Override
+    protected void loadTileLayer(final TiledMap map, final MapLayers parentLayers, final Element element) {
+    }
+
+    /**
+     * Skips the image layers.
+     *
+     * @param map           the map
+     * @param parentLayers  the layers the image layer would be added to
+     * @param element       the image layer element
+     * @param tmxFile       the map file
+     * @param imageResolver the image resolver
+     */
+    @Override
+    protected void loadImageLayer(final TiledMap map, final MapLayers parentLayers, final Element element,
+                                  final FileHandle tmxFile, final ImageResolver imageResolver) {
+    }
+
+    /**
+     * A string representation of SimulationMapLoader.
+     *
+     * @return a string representation of SimulationMapLoader
+     */
+    @Override
+    public String toString() {
+        return "SimulationMapLoader{}";
+    }
+}
@@ -0,0 +1,165 @@
+package com.toads.odyssey.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * An index of entities sorted by their left edge, to find the ones overlapping a horizontal span by binary search.
+ * Entities are identified by the order they were added in. Once sorted the index is never modified, so it can be
+ * queried from any thread.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class XSortedIndex {
+    private final float[] lefts;
+    private final float[] rights;
+    private final int[] ids;
+    private int size = 0;
+    private float maxWidth = 0f;
+    private boolean sorted = false;
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param capacity the number of entities that will be added
+     */
+    public XSortedIndex(final int capacity) {
+        lefts = new float[capacity];
+        rights = new float[capacity];
+        ids = new int[capacity];
+    }
+
+    /**
+     * Adds an entity. Its id is the number of entities added before it.
+     *
+     * @param x     the left edge of the entity
+     * @param width the width of the entity
+     */
+    public void add(final float x, final float width) {
+        if (sorted) {
+            throw new IllegalStateException("The index is already sorted");
+        }
+        lefts[size] = x;
+        rights[size] = x + width;
+        ids[size] = size;
+        maxWidth = Math.max(maxWidth, width);
+        size++;
+    }
+
+    /**
+     * Sorts the entities by their left edge. Must be called once, after every entity has been added.
+     */
+    public void sort() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        final float[] unsortedLefts = Arrays.copyOf(lefts, size);
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer a, final Integer b) {
+                return Float.compare(unsortedLefts[a], unsortedLefts[b]);
+            }
+        });
+        float[] unsortedRights = Arrays.copyOf(rights, size);
+        for (int i = 0; i < size; i++) {
+            int id = order[i];
+            lefts[i] = unsortedLefts[id];
+            rights[i] = unsortedRights[id];
+            ids[i] = id;
+        }
+        sorted = true;
+    }
+
+    /**
+     * Returns the first sorted position whose entity may end at or after the given x.
+     *
+     * @param minX the left edge of the span
+     * @return the first position of the span
+     */
+    public int from(final float minX) {
+        return lowerBound(minX - maxWidth);
+    }
+
+    /**
+     * Returns the position after the last entity starting at or before the given x.
+     *
+     * @param maxX the right edge of the span
+     * @return the end position of the span, exclusive
+     */
+    public int to(final float maxX) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lefts[mid] <= maxX) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first sorted position whose left edge is at or after the given x.
+     *
+     * @param x the x coordinate
+     * @return the position
+     */
+    private int lowerBound(final float x) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lefts[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if the entity at the given sorted position overlaps the span.
+     * Positions between {@link #from(float)} and {@link #to(float)} may still end before the span.
+     *
+     * @param position the sorted position
+     * @param minX     the left edge of the span
+     * @return true if the entity overlaps the span
+     */
+    public boolean overlaps(final int position, final float minX) {
+        return rights[position] >= minX;
+    }
+
+    /**
+     * Returns the id of the entity at the given sorted position.
+     *
+     * @param position the sorted position
+     * @return the id of the entity
+     */
+    public int getId(final int position) {
+        return ids[position];
+    }
+
+    /**
+     * Returns the number of entities.
+     *
+     * @return the number of entities
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the string representation of XSortedIndex.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "XSortedIndex{" + "size=" + size + ", maxWidth=" + maxWidth + ", sorted=" + sorted + '}';
+    }
+}
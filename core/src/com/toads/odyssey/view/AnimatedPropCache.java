@@ -0,0 +1,205 @@
+package com.toads.odyssey.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Draws the props of a level that loop one animation on a shared clock, such as its coins or its mushrooms, from a
+ * {@link SpriteCache} holding one cache per frame of the animation. Every prop shows the same frame, so drawing them
+ * costs one cache draw however many there are, and no key frame is looked up per prop.
+ * <p>
+ * Only the props in a window around the view are cached. The window is rebuilt when the view leaves it or when the
+ * caller's stamp changes, for instance when a coin is collected, and the sprite cache is replaced by a bigger one
+ * when a window holds more props than it has room for.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class AnimatedPropCache implements Disposable {
+    private static final int BOUNDS = 4;
+    private static final float HALF = 0.5f;
+    private final Animation<? extends TextureRegion> animation;
+    private final float margin;
+    private final FloatArray bounds = new FloatArray();
+    private final IntArray cacheIds = new IntArray();
+    private SpriteCache cache;
+    private int capacity;
+    private float left;
+    private float right;
+    private int stamp;
+    private boolean stale = true;
+    private int rebuilds;
+
+    /**
+     * Constructs an empty cache. Nothing is drawn until a window is built.
+     *
+     * @param animation the looping animation of the props
+     * @param margin    how far the window reaches past each side of the view when it is built, in world units
+     */
+    public AnimatedPropCache(final Animation<? extends TextureRegion> animation, final float margin) {
+        this.animation = animation;
+        this.margin = margin;
+    }
+
+    /**
+     * Returns true if the window has to be rebuilt before the props in view can be drawn.
+     *
+     * @param viewLeft  the left edge of the view
+     * @param viewRight the right edge of the view
+     * @param newStamp  the caller's stamp of the props; a different stamp than the window's means some changed
+     * @return true if the window must be rebuilt
+     */
+    public boolean isStale(final float viewLeft, final float viewRight, final int newStamp) {
+        return stale || viewLeft < left || viewRight > right || newStamp != stamp;
+    }
+
+    /**
+     * Starts rebuilding the window around the view. The caller then adds every prop between
+     * {@link #getLeft()} and {@link #getRight()} and calls {@link #end()}.
+     *
+     * @param viewLeft  the left edge of the view
+     * @param viewRight the right edge of the view
+     * @param newStamp  the caller's stamp of the props
+     */
+    public void begin(final float viewLeft, final float viewRight, final int newStamp) {
+        left = viewLeft - margin;
+        right = viewRight + margin;
+        stamp = newStamp;
+        bounds.clear();
+    }
+
+    /**
+     * Adds a prop to the window being rebuilt.
+     *
+     * @param x      the left of the prop
+     * @param y      the bottom of the prop
+     * @param width  the width of the prop
+     * @param height the height of the prop
+     */
+    public void add(final float x, final float y, final float width, final float height) {
+        bounds.add(x, y, width, height);
+    }
+
+    /**
+     * Caches every frame of the animation over the props added since {@link #begin(float, float, int)}.
+     */
+    public void end() {
+        int frames = Math.round(animation.getAnimationDuration() / animation.getFrameDuration());
+        int sprites = getCount() * frames;
+        if (sprites > capacity) {
+            if (cache != null) {
+                cache.dispose();
+            }
+            capacity = Math.max(sprites, capacity * 2);
+            cache = new SpriteCache(capacity, false);
+        }
+        stale = false;
+        rebuilds++;
+        cacheIds.clear();
+        if (cache == null) {
+            return;
+        }
+        cache.clear();
+        for (int f = 0; f < frames; f++) {
+            TextureRegion frame = animation.getKeyFrame((f + HALF) * animation.getFrameDuration());
+            cache.beginCache();
+            for (int b = 0; b < bounds.size; b += BOUNDS) {
+                cache.add(frame, bounds.get(b), bounds.get(b + 1), bounds.get(b + 2), bounds.get(b + BOUNDS - 1));
+            }
+            cacheIds.add(cache.endCache());
+        }
+    }
+
+    /**
+     * Draws the props of the window with the frame of the animation at a time of the shared clock.
+     *
+     * @param projection the projection of the level's camera
+     * @param time       the time of the shared clock, in seconds
+     */
+    public void render(final Matrix4 projection, final float time) {
+        if (getCount() == 0 || cacheIds.size == 0) {
+            return;
+        }
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        cache.draw(cacheIds.get(animation.getKeyFrameIndex(time)));
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * Makes the next {@link #isStale(float, float, int)} true, so the window is rebuilt before it is drawn again.
+     */
+    public void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Returns the left edge of the window.
+     *
+     * @return the left edge of the window
+     */
+    public float getLeft() {
+        return left;
+    }
+
+    /**
+     * Returns the right edge of the window.
+     *
+     * @return the right edge of the window
+     */
+    public float getRight() {
+        return right;
+    }
+
+    /**
+     * Returns the number of props in the window.
+     *
+     * @return the number of props cached
+     */
+    public int getCount() {
+        return bounds.size / BOUNDS;
+    }
+
+    /**
+     * Returns the number of times the window was built.
+     *
+     * @return the number of rebuilds
+     */
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    /**
+     * Disposes the sprite cache.
+     */
+    @Override
+    public void dispose() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+        capacity = 0;
+        stale = true;
+    }
+
+    /**
+     * Returns the string representation of AnimatedPropCache.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "AnimatedPropCache{" + "left=" + left + ", right=" + right + ", props=" + getCount() + ", frames="
+                + cacheIds.size + ", capacity=" + capacity + ", rebuilds=" + rebuilds + '}';
+    }
+}
@@ -0,0 +1,462 @@
+package com.toads.odyssey.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Draws the tile layers of a map from geometry baked into a {@link SpriteCache}, streamed in chunks.
+ * The top level layers of the map are the layer groups. The map is cut into chunks of {@value #CHUNK_COLUMNS}
+ * columns, and only the chunks the camera sees, plus {@value #LOOK_AHEAD_CHUNKS} on each side, are resident.
+ * A builder thread turns the tiles of each chunk entering that window into sprite vertices, and the rendering thread
+ * caches the resident chunks whenever one enters or leaves, so neither the cache nor the vertices grow with the
+ * length of the level. A chunk the camera sees before the builder has finished it, after a respawn for instance,
+ * is built on the rendering thread and counted as a stall.
+ * <p>
+ * A tile belongs to the chunk its left edge lies in, so chunks of a layer whose offset is a whole number of tiles
+ * never overlap, and drawing them one after another keeps the layers in order. The layers are static: animated
+ * tiles are cached with their current frame and parallax factors are ignored.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class ChunkedTileMapRenderer implements Disposable, Runnable {
+    private static final String TAG = "TileChunks";
+    private static final int CHUNK_COLUMNS = 16;
+    private static final int LOOK_AHEAD_CHUNKS = 1;
+    private static final int NO_CACHE = -1;
+    private static final int VERTEX_SIZE = 5;
+    private static final int[] TRIANGLE_CORNERS = {0, 1, 2, 2, 3, 0};
+    private static final float QUARTER_TURN = 90f;
+    private static final float HALF = 0.5f;
+    private final Array<Array<TiledMapTileLayer>> groups = new Array<>();
+    private final SpriteCache cache;
+    private final IntMap<TileChunk> resident = new IntMap<>();
+    private final Bits requested = new Bits();
+    private final BlockingQueue<Integer> requests = new LinkedBlockingQueue<>();
+    private final Queue<TileChunk> built = new ConcurrentLinkedQueue<>();
+    private final Thread builder;
+    private final float unitScale;
+    private final float chunkWidth;
+    private final float originX;
+    private final int chunkCount;
+    private final int maxResident;
+    private volatile boolean running;
+    private volatile RuntimeException failure;
+    private boolean cacheDirty = false;
+    private int visibleChunks;
+    private int stalls;
+
+    /**
+     * Constructs a renderer and starts the thread building the chunks.
+     *
+     * @param map       the map to draw
+     * @param unitScale the number of world units per map pixel
+     * @param viewWidth the widest part of the map the camera sees at once, in world units
+     */
+    public ChunkedTileMapRenderer(final TiledMap map, final float unitScale, final float viewWidth) {
+        this.unitScale = unitScale;
+        for (MapLayer layer : map.getLayers()) {
+            Array<TiledMapTileLayer> group = new Array<>();
+            collectTileLayers(layer, group);
+            if (group.size > 0) {
+                groups.add(group);
+            }
+        }
+        float left = 0f;
+        float right = 0f;
+        float tileWidth = 0f;
+        for (int g = 0; g < groups.size; g++) {
+            for (int i = 0; i < groups.get(g).size; i++) {
+                TiledMapTileLayer layer = groups.get(g).get(i);
+                left = Math.min(left, layer.getRenderOffsetX() * unitScale);
+                right = Math.max(right, (layer.getWidth() * layer.getTileWidth() + layer.getRenderOffsetX())
+                        * unitScale);
+                tileWidth = Math.max(tileWidth, layer.getTileWidth() * unitScale);
+            }
+        }
+        originX = left;
+        chunkWidth = CHUNK_COLUMNS * tileWidth;
+        chunkCount = chunkWidth > 0f ? (int) Math.ceil((right - left) / chunkWidth) : 0;
+        int viewChunks = chunkWidth > 0f ? (int) Math.ceil(viewWidth / chunkWidth) + 1 : 0;
+        maxResident = Math.min(chunkCount, viewChunks + 2 * LOOK_AHEAD_CHUNKS);
+        int maxTiles = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            maxTiles = Math.max(maxTiles, countTiles(chunk));
+        }
+        cache = new SpriteCache(Math.max(maxTiles * maxResident, 1), false);
+        builder = new Thread(this, "Tile chunk builder");
+        builder.setDaemon(true);
+        running = true;
+        builder.start();
+    }
+
+    /**
+     * Adds the visible tile layers under a layer, in drawing order.
+     *
+     * @param layer  the layer
+     * @param layers the tile layers found so far
+     */
+    private static void collectTileLayers(final MapLayer layer, final Array<TiledMapTileLayer> layers) {
+        if (!layer.isVisible() || layer.getOpacity() <= 0f) {
+            return;
+        }
+        if (layer instanceof MapGroupLayer) {
+            MapLayers children = ((MapGroupLayer) layer).getLayers();
+            for (MapLayer child : children) {
+                collectTileLayers(child, layers);
+            }
+        } else if (layer instanceof TiledMapTileLayer) {
+            layers.add((TiledMapTileLayer) layer);
+        }
+    }
+
+    /**
+     * Returns the first column of a layer whose left edge lies in a chunk.
+     *
+     * @param layer the layer
+     * @param chunk the index of the chunk
+     * @return the first column
+     */
+    private int firstColumn(final TiledMapTileLayer layer, final int chunk) {
+        float chunkLeft = originX + chunk * chunkWidth;
+        float offsetX = layer.getRenderOffsetX() * unitScale;
+        return Math.max(0, (int) Math.ceil((chunkLeft - offsetX) / (layer.getTileWidth() * unitScale)));
+    }
+
+    /**
+     * Returns the column after the last one of a layer whose left edge lies in a chunk.
+     *
+     * @param layer the layer
+     * @param chunk the index of the chunk
+     * @return the end column, exclusive
+     */
+    private int endColumn(final TiledMapTileLayer layer, final int chunk) {
+        float chunkRight = originX + (chunk + 1) * chunkWidth;
+        float offsetX = layer.getRenderOffsetX() * unitScale;
+        float tileWidth = layer.getTileWidth() * unitScale;
+        return Math.min(layer.getWidth(), (int) Math.ceil((chunkRight - offsetX) / tileWidth));
+    }
+
+    /**
+     * Returns the number of tiles of every group in a chunk.
+     *
+     * @param chunk the index of the chunk
+     * @return the number of tiles
+     */
+    private int countTiles(final int chunk) {
+        int tiles = 0;
+        for (int g = 0; g < groups.size; g++) {
+            for (int i = 0; i < groups.get(g).size; i++) {
+                TiledMapTileLayer layer = groups.get(g).get(i);
+                int endCol = endColumn(layer, chunk);
+                for (int row = 0; row < layer.getHeight(); row++) {
+                    for (int col = firstColumn(layer, chunk); col < endCol; col++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                        if (cell != null && cell.getTile() != null) {
+                            tiles++;
+                        }
+                    }
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Builds the chunks requested by the rendering thread until the renderer is disposed.
+     */
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                built.add(build(requests.take()));
+            }
+        } catch (InterruptedException e) {
+            return;
+        } catch (RuntimeException e) {
+            failure = e;
+            Gdx.app.error(TAG, "Could not build a tile chunk", e);
+        }
+    }
+
+    /**
+     * Turns the tiles of every group in a chunk into sprite vertices. Only reads the map, so it can run on any
+     * thread.
+     *
+     * @param index the index of the chunk
+     * @return the chunk
+     */
+    private TileChunk build(final int index) {
+        TileChunk chunk = new TileChunk(index, groups.size);
+        Sprite sprite = new Sprite();
+        for (int g = 0; g < groups.size; g++) {
+            Array<TiledMapTileLayer> group = groups.get(g);
+            for (int i = 0; i < group.size; i++) {
+                TiledMapTileLayer layer = group.get(i);
+                float tileWidth = layer.getTileWidth() * unitScale;
+                float tileHeight = layer.getTileHeight() * unitScale;
+                float offsetX = layer.getRenderOffsetX() * unitScale;
+                float offsetY = -layer.getRenderOffsetY() * unitScale;
+                int endCol = endColumn(layer, index);
+                sprite.setColor(1f, 1f, 1f, layer.getOpacity());
+                for (int row = 0; row < layer.getHeight(); row++) {
+                    for (int col = firstColumn(layer, index); col < endCol; col++) {
+                        TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                        if (cell == null || cell.getTile() == null) {
+                            continue;
+                        }
+                        TiledMapTile tile = cell.getTile();
+                        float width = tile.getTextureRegion().getRegionWidth() * unitScale;
+                        float height = tile.getTextureRegion().getRegionHeight() * unitScale;
+                        sprite.setRegion(tile.getTextureRegion());
+                        sprite.setBounds(offsetX + col * tileWidth + tile.getOffsetX() * unitScale,
+                                offsetY + row * tileHeight + tile.getOffsetY() * unitScale, width, height);
+                        sprite.setOrigin(width * HALF, height * HALF);
+                        sprite.setScale(cell.getFlipHorizontally() ? -1f : 1f, cell.getFlipVertically() ? -1f : 1f);
+                        sprite.setRotation(cell.getRotation() * QUARTER_TURN);
+                        chunk.add(g, tile.getTextureRegion().getTexture(), sprite.getVertices());
+                    }
+                }
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Draws the chunks the camera sees, first streaming in the chunks around it and dropping the others.
+     *
+     * @param camera the camera
+     */
+    public void render(final OrthographicCamera camera) {
+        if (failure != null) {
+            throw new GdxRuntimeException("Could not build the tile chunks", failure);
+        }
+        float halfWidth = camera.viewportWidth * camera.zoom * HALF;
+        int first = Math.max(0, (int) Math.floor((camera.position.x - halfWidth - originX) / chunkWidth));
+        int last = Math.min(chunkCount - 1, (int) Math.floor((camera.position.x + halfWidth - originX) / chunkWidth));
+        visibleChunks = 0;
+        if (first > last) {
+            return;
+        }
+        stream(first, last);
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(camera.combined);
+        cache.begin();
+        for (int g = 0; g < groups.size; g++) {
+            for (int chunk = first; chunk <= last; chunk++) {
+                int id = resident.get(chunk).cacheIds[g];
+                if (id != NO_CACHE) {
+                    cache.draw(id);
+                    visibleChunks++;
+                }
+            }
+        }
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * Keeps the chunks the camera sees and the ones around them resident, requesting the ones missing from the
+     * builder and building the visible ones it has not finished, and re-caches the resident chunks if they changed.
+     *
+     * @param first the first chunk the camera sees
+     * @param last  the last chunk the camera sees
+     */
+    private void stream(final int first, final int last) {
+        int from = Math.max(0, first - LOOK_AHEAD_CHUNKS);
+        int to = Math.min(chunkCount - 1, last + LOOK_AHEAD_CHUNKS);
+        while (to - from + 1 > maxResident && to > last) {
+            to--;
+        }
+        while (to - from + 1 > maxResident && from < first) {
+            from++;
+        }
+        TileChunk chunk;
+        while ((chunk = built.poll()) != null) {
+            if (resident.containsKey(chunk.index)) {
+                continue;
+            }
+            if (chunk.index >= from && chunk.index <= to) {
+                resident.put(chunk.index, chunk);
+                cacheDirty = true;
+            } else {
+                requested.clear(chunk.index);
+            }
+        }
+        IntMap.Keys keys = resident.keys();
+        while (keys.hasNext) {
+            int index = keys.next();
+            if (index < from || index > to) {
+                keys.remove();
+                requested.clear(index);
+                cacheDirty = true;
+            }
+        }
+        for (int index = from; index <= to; index++) {
+            if (!requested.getAndSet(index)) {
+                requests.add(index);
+            }
+        }
+        for (int index = first; index <= last; index++) {
+            if (!resident.containsKey(index)) {
+                resident.put(index, build(index));
+                stalls++;
+                cacheDirty = true;
+            }
+        }
+        if (cacheDirty) {
+            cache.clear();
+            for (TileChunk residentChunk : resident.values()) {
+                residentChunk.cache(cache);
+            }
+            cacheDirty = false;
+        }
+    }
+
+    /**
+     * Returns the number of chunk caches drawn by the last call to {@link #render(OrthographicCamera)}.
+     *
+     * @return the number of chunks drawn
+     */
+    public int getVisibleChunks() {
+        return visibleChunks;
+    }
+
+    /**
+     * Returns the number of chunks resident.
+     *
+     * @return the number of chunks
+     */
+    public int getResidentChunks() {
+        return resident.size;
+    }
+
+    /**
+     * Returns the number of chunks built on the rendering thread because the builder had not finished them.
+     *
+     * @return the number of stalls
+     */
+    public int getStalls() {
+        return stalls;
+    }
+
+    /**
+     * Returns the number of draw calls the last frame needed; a chunk needs one per texture it uses.
+     *
+     * @return the number of draw calls
+     */
+    public int getRenderCalls() {
+        return cache.renderCalls;
+    }
+
+    /**
+     * Stops the builder and disposes the cached geometry.
+     */
+    @Override
+    public void dispose() {
+        running = false;
+        builder.interrupt();
+        try {
+            builder.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cache.dispose();
+    }
+
+    /**
+     * Returns the string representation of ChunkedTileMapRenderer.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "ChunkedTileMapRenderer{" + "chunkCount=" + chunkCount + ", chunkWidth=" + chunkWidth + ", originX="
+                + originX + ", maxResident=" + maxResident + ", resident=" + resident.size + ", visibleChunks="
+                + visibleChunks + ", stalls=" + stalls + '}';
+    }
+
+    /**
+     * The tiles of every group in a chunk, as the vertices of two triangles per tile, in runs of one texture.
+     */
+    private static final class TileChunk {
+        private final int index;
+        private final FloatArray[] vertices;
+        private final Array<Array<Texture>> textures;
+        private final IntArray[] runStarts;
+        private final int[] cacheIds;
+
+        TileChunk(final int index, final int groupCount) {
+            this.index = index;
+            vertices = new FloatArray[groupCount];
+            textures = new Array<>(groupCount);
+            runStarts = new IntArray[groupCount];
+            cacheIds = new int[groupCount];
+            for (int g = 0; g < groupCount; g++) {
+                vertices[g] = new FloatArray();
+                textures.add(new Array<Texture>());
+                runStarts[g] = new IntArray();
+            }
+        }
+
+        /**
+         * Adds a tile to a group.
+         *
+         * @param group          the index of the group
+         * @param texture        the texture of the tile
+         * @param spriteVertices the four corners of the tile, as a sprite holds them
+         */
+        void add(final int group, final Texture texture, final float[] spriteVertices) {
+            if (textures.get(group).size == 0 || textures.get(group).peek() != texture) {
+                textures.get(group).add(texture);
+                runStarts[group].add(vertices[group].size);
+            }
+            for (int corner : TRIANGLE_CORNERS) {
+                vertices[group].addAll(spriteVertices, corner * VERTEX_SIZE, VERTEX_SIZE);
+            }
+        }
+
+        /**
+         * Caches the tiles of each group, remembering the id of each cache.
+         *
+         * @param cache the sprite cache, between two clears
+         */
+        void cache(final SpriteCache cache) {
+            for (int g = 0; g < vertices.length; g++) {
+                if (vertices[g].size == 0) {
+                    cacheIds[g] = NO_CACHE;
+                    continue;
+                }
+                cache.beginCache();
+                for (int run = 0; run < textures.get(g).size; run++) {
+                    int start = runStarts[g].get(run);
+                    int end = run + 1 < runStarts[g].size ? runStarts[g].get(run + 1) : vertices[g].size;
+                    cache.add(textures.get(g).get(run), vertices[g].items, start, end - start);
+                }
+                cacheIds[g] = cache.endCache();
+            }
+        }
+    }
+}
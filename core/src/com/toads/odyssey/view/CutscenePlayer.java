@@ -0,0 +1,211 @@
+package com.toads.odyssey.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.toads.odyssey.util.Cutscene;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays a cutscene by streaming its frames.
+ * A decoder thread decodes the frame PNGs in playback order into pixmaps, at most {@link #DECODE_AHEAD} ahead.
+ * The rendering thread uploads each decoded frame into a small ring of textures as soon as it is the next one due,
+ * a frame ahead of its display, so only a few frames are ever in memory and no texture is larger than a frame.
+ * The ring has a texture for the frame shown, the frame uploaded ahead, and the frame the GPU may still be drawing,
+ * so an upload never overwrites a texture in use.
+ * <p>
+ * The player starts decoding when it is constructed, so constructing it before its screen is shown preloads the
+ * first frames. The textures are created on the rendering thread on the first call to {@link #getFrame(float)}.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class CutscenePlayer implements Disposable, Runnable {
+    private static final String TAG = "Cutscene";
+    private static final int RING_SIZE = 3;
+    private static final int DECODE_AHEAD = RING_SIZE - 1;
+    private static final long WAIT_MILLIS = 10;
+    private final Cutscene cutscene;
+    private final BlockingQueue<DecodedFrame> decoded = new ArrayBlockingQueue<>(DECODE_AHEAD);
+    private final Texture[] ring = new Texture[RING_SIZE];
+    private final TextureRegion region = new TextureRegion();
+    private final Thread decoder;
+    private volatile boolean running;
+    private volatile RuntimeException failure;
+    private float stateTime = 0f;
+    private int uploaded = -1;
+    private int shown = -1;
+
+    /**
+     * Constructs a cutscene player and starts decoding the cutscene.
+     *
+     * @param cutscene the cutscene to play
+     */
+    public CutscenePlayer(final Cutscene cutscene) {
+        this.cutscene = cutscene;
+        decoder = new Thread(this, "Cutscene " + cutscene);
+        decoder.setDaemon(true);
+        running = true;
+        decoder.start();
+    }
+
+    /**
+     * Decodes the frames in playback order until the cutscene ends or the player is disposed.
+     * The sequence number keeps growing while a looping cutscene wraps around, so the rendering thread can tell
+     * the frames apart.
+     */
+    @Override
+    public void run() {
+        int frameCount = cutscene.getFrameCount();
+        boolean loop = cutscene.getPlayMode() == Animation.PlayMode.LOOP;
+        try {
+            for (int sequence = 0; running && (loop || sequence < frameCount); sequence++) {
+                Pixmap pixmap = new Pixmap(Gdx.files.internal(cutscene.getFramePath(sequence % frameCount)));
+                try {
+                    decoded.put(new DecodedFrame(sequence, pixmap));
+                } catch (InterruptedException e) {
+                    pixmap.dispose();
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+            Gdx.app.error(TAG, "Could not decode " + cutscene, e);
+        }
+    }
+
+    /**
+     * Advances the cutscene and returns the frame to show. Uploads the frame that is due and the one after it from
+     * the decoded frames, skipping frames already late; if the decoder is behind, the last uploaded frame stays on
+     * screen.
+     * Must be called from the rendering thread.
+     *
+     * @param delta the time since the last frame, in seconds
+     * @return the frame to show, valid until the next call
+     */
+    public TextureRegion getFrame(final float delta) {
+        stateTime += delta;
+        int due = (int) (stateTime / cutscene.getFrameDuration());
+        if (cutscene.getPlayMode() != Animation.PlayMode.LOOP) {
+            due = Math.min(due, cutscene.getFrameCount() - 1);
+        }
+        if (uploaded < 0) {
+            upload(awaitFirstFrame());
+        }
+        DecodedFrame frame;
+        while (uploaded <= due && (frame = decoded.poll()) != null) {
+            if (frame.sequence < due && !decoded.isEmpty()) {
+                frame.pixmap.dispose();
+                continue;
+            }
+            upload(frame);
+        }
+        int next = Math.min(due, uploaded);
+        if (next != shown) {
+            shown = next;
+            region.setRegion(ring[shown % RING_SIZE]);
+        }
+        return region;
+    }
+
+    /**
+     * Waits for the decoder to decode the first frame.
+     *
+     * @return the first frame
+     */
+    private DecodedFrame awaitFirstFrame() {
+        try {
+            while (true) {
+                DecodedFrame frame = decoded.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                if (frame != null) {
+                    return frame;
+                }
+                if (failure != null) {
+                    throw new GdxRuntimeException("Could not play " + cutscene, failure);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted while waiting for " + cutscene, e);
+        }
+    }
+
+    /**
+     * Uploads a decoded frame into its texture of the ring, creating the texture the first time.
+     *
+     * @param frame the decoded frame
+     */
+    private void upload(final DecodedFrame frame) {
+        int slot = frame.sequence % RING_SIZE;
+        if (ring[slot] == null) {
+            ring[slot] = new Texture(frame.pixmap.getWidth(), frame.pixmap.getHeight(), frame.pixmap.getFormat());
+            ring[slot].setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+        ring[slot].draw(frame.pixmap, 0, 0);
+        frame.pixmap.dispose();
+        uploaded = frame.sequence;
+    }
+
+    /**
+     * Returns true once a cutscene played once has shown its last frame.
+     *
+     * @return true if the cutscene is finished, false otherwise
+     */
+    public boolean isFinished() {
+        return cutscene.getPlayMode() != Animation.PlayMode.LOOP && shown == cutscene.getFrameCount() - 1;
+    }
+
+    /**
+     * Stops the decoder and disposes the textures and the frames decoded but not shown.
+     */
+    @Override
+    public void dispose() {
+        running = false;
+        decoder.interrupt();
+        try {
+            decoder.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        DecodedFrame frame;
+        while ((frame = decoded.poll()) != null) {
+            frame.pixmap.dispose();
+        }
+        for (int i = 0; i < RING_SIZE; i++) {
+            if (ring[i] != null) {
+                ring[i].dispose();
+                ring[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the string representation of CutscenePlayer.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "CutscenePlayer{" + "cutscene=" + cutscene + ", stateTime=" + stateTime + ", uploaded=" + uploaded
+                + ", shown=" + shown + ", running=" + running + '}';
+    }
+
+    /**
+     * A frame decoded by the decoder thread, waiting to be uploaded.
+     */
+    private static final class DecodedFrame {
+        private final int sequence;
+        private final Pixmap pixmap;
+
+        DecodedFrame(final int sequence, final Pixmap pixmap) {
+            this.sequence = sequence;
+            this.pixmap = pixmap;
+        }
+    }
+}
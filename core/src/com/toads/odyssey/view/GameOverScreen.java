@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.toads.odyssey.ToadsOdyssey;
-import com.toads.odyssey.util.AssetsLoader;
 
 /**
  * Represents the game over screen.
@@ -18,20 +17,26 @@ import com.toads.odyssey.util.AssetsLoader;
 public final class GameOverScreen implements Screen {
     private final ToadsOdyssey game;
     private final Viewport viewport;
+    private final CutscenePlayer cutscene;
+    private final LevelBase level;
     private TextureRegion region;
     private float stateTimer;
 
     /**
      * Constructs a game over screen.
      * @param game the game instance
+     * @param cutscene the player of the screen's cutscene, disposed with the screen
+     * @param level the level that was lost, shown again if the player restarts it
      */
-    public GameOverScreen(final ToadsOdyssey game) {
+    public GameOverScreen(final ToadsOdyssey game, final CutscenePlayer cutscene, final LevelBase level) {
         this.game = game;
+        this.level = level;
         viewport = new StretchViewport(ToadsOdyssey.SCREEN_WIDTH / ToadsOdyssey.PPM,
                 ToadsOdyssey.SCREEN_HEIGHT / ToadsOdyssey.PPM);
         viewport.apply();
+        this.cutscene = cutscene;
         stateTimer = 0;
-        region = AssetsLoader.getInstance().getGameOverScreenAssets().gameOverAnimation.getKeyFrame(stateTimer, false);
+        region = cutscene.getFrame(0);
     }
 
     /**
@@ -41,28 +46,36 @@ public final class GameOverScreen implements Screen {
      */
     private TextureRegion getFrame(final float delta) {
         stateTimer += delta;
-        return AssetsLoader.getInstance().getGameOverScreenAssets().gameOverAnimation.getKeyFrame(stateTimer, false);
+        return cutscene.getFrame(delta);
     }
 
     /**
      * Updates the game over screen with the current frame and keypress event.
+     * The batch is shared with the level, whose last pass leaves its world projection on it, so the frame is
+     * drawn with a projection of its own.
      * @param deltaTime the time between frames
      */
     private void update(final float deltaTime) {
         region = getFrame(deltaTime);
-        handleKeyPressed();
+        game.getBatch().getProjectionMatrix().setToOrtho2D(0, 0, ToadsOdyssey.SCREEN_WIDTH,
+                ToadsOdyssey.SCREEN_HEIGHT);
         game.getBatch().begin();
         game.getBatch().draw(region, 0, 0, ToadsOdyssey.SCREEN_WIDTH, ToadsOdyssey.SCREEN_HEIGHT);
         game.getBatch().end();
+        handleKeyPressed();
     }
 
     /**
-     * Handles the key pressed event to exit the game.
+     * Handles the key pressed event to exit the game, or to restart the level in place.
      */
     private void handleKeyPressed() {
         boolean escapePressed = Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE);
         if (escapePressed) {
             Gdx.app.exit();
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.R) && level.canRestart()) {
+            level.restart();
+            game.setScreen(level);
+            dispose();
         }
     }
     @Override
@@ -105,7 +118,7 @@ public final class GameOverScreen implements Screen {
      */
     @Override
     public void dispose() {
-        region.getTexture().dispose();
+        cutscene.dispose();
     }
 
     /**
@@ -114,7 +127,7 @@ public final class GameOverScreen implements Screen {
      */
     @Override
     public String toString() {
-        return "GameOverScreen{" + "game=" + game + ", viewport=" + viewport + ", region=" + region + ", stateTimer="
-                + stateTimer + '}';
+        return "GameOverScreen{" + "game=" + game + ", viewport=" + viewport + ", cutscene=" + cutscene
+                + ", region=" + region + ", stateTimer=" + stateTimer + ", level=" + level + '}';
     }
 }
@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.toads.odyssey.ToadsOdyssey;
-import com.toads.odyssey.util.AssetsLoader;
 
 /**
  * Represents the game won screen.
@@ -19,6 +18,7 @@ public final class GameWonScreen implements Screen {
 
     private final ToadsOdyssey game;
     private final Viewport viewport;
+    private final CutscenePlayer cutscene;
     private TextureRegion region;
     private float stateTimer;
 
@@ -26,14 +26,16 @@ public final class GameWonScreen implements Screen {
      * Constructs a game won screen.
      *
      * @param game the game instance
+     * @param cutscene the player of the screen's cutscene, disposed with the screen
      */
-    public GameWonScreen(final ToadsOdyssey game) {
+    public GameWonScreen(final ToadsOdyssey game, final CutscenePlayer cutscene) {
         this.game = game;
         viewport = new StretchViewport(ToadsOdyssey.SCREEN_WIDTH / ToadsOdyssey.PPM,
                 ToadsOdyssey.SCREEN_HEIGHT / ToadsOdyssey.PPM);
         viewport.apply();
+        this.cutscene = cutscene;
         stateTimer = 0;
-        region = AssetsLoader.getInstance().getGameWonScreenAssets().gameWonAnimation.getKeyFrame(stateTimer, false);
+        region = cutscene.getFrame(0);
     }
 
     /**
@@ -43,16 +45,20 @@ public final class GameWonScreen implements Screen {
      */
     private TextureRegion getFrame(final float delta) {
         stateTimer += delta;
-        return AssetsLoader.getInstance().getGameWonScreenAssets().gameWonAnimation.getKeyFrame(stateTimer, false);
+        return cutscene.getFrame(delta);
     }
 
     /**
      * Updates the game won screen with the current frame and keypress event.
+     * The batch is shared with the level, whose last pass leaves its world projection on it, so the frame is
+     * drawn with a projection of its own.
      * @param deltaTime the time between frames
      */
     private void update(final float deltaTime) {
         region = getFrame(deltaTime);
         handleKeyPressed();
+        game.getBatch().getProjectionMatrix().setToOrtho2D(0, 0, ToadsOdyssey.SCREEN_WIDTH,
+                ToadsOdyssey.SCREEN_HEIGHT);
         game.getBatch().begin();
         game.getBatch().draw(region, 0, 0, ToadsOdyssey.SCREEN_WIDTH, ToadsOdyssey.SCREEN_HEIGHT);
         game.getBatch().end();
@@ -107,7 +113,7 @@ public final class GameWonScreen implements Screen {
      */
     @Override
     public void dispose() {
-        region.getTexture().dispose();
+        cutscene.dispose();
     }
 
     /**
@@ -116,7 +122,7 @@ public final class GameWonScreen implements Screen {
      */
     @Override
     public String toString() {
-        return "GameWonScreen{" + "game=" + game + ", viewport=" + viewport + ", region=" + region + ", stateTimer="
-                + stateTimer + '}';
+        return "GameWonScreen{" + "game=" + game + ", viewport=" + viewport + ", cutscene=" + cutscene
+                + ", region=" + region + ", stateTimer=" + stateTimer + '}';
     }
 }
@@ -1,20 +1,30 @@
 package com.toads.odyssey.view;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
 import com.toads.odyssey.util.AssetsLoader;
+import com.toads.odyssey.util.FramePhase;
+import com.toads.odyssey.util.FrameProfiler;
+import com.toads.odyssey.util.RollingHistogram;
 
 /**
  * The HUD is the Heads-Up Display that shows the player's score, lives, and the pause button.
+ * It is drawn into an offscreen layer of the size of the window whenever what it shows changes, and the layer is
+ * drawn over the level as one quad, in the same batch as the level. The frame timings overlay is drawn live, as it
+ * changes all the time.
  *
  * @author Joanne, Mika
  * @version 2023
@@ -26,21 +36,62 @@ public final class Hud {
     private static final float COIN_PADDING = 50;
     private static final float HEART_SIZE = 45;
     private static final float HEART_SPACING = 10;
-    private static final float PAUSE_TEXT_X_OFFSET = 20;
-    private static final float PAUSE_TEXT_Y_OFFSET = 20;
-    private static final float PAUSE_TEXT_HEIGHT_OFFSET = 40;
     private static final float COIN_SIZE_SCALE = 1.1f;
     private static final float HEART_X_OFFSET = 30;
     private static final float HEART_Y_OFFSET = 35;
     private static final int MAX_COIN_COUNT = 999;
+    private static final int MAX_DIGITS = 3;
+    private static final int MAX_HEARTS = 3;
+    private static final int PROFILER_TOGGLE_KEY = Input.Keys.F3;
+    private static final int RESTART_KEY = Input.Keys.R;
+    private static final int PROFILER_REFRESH_FRAMES = 30;
+    private static final float PROFILER_X = 20;
+    private static final float PROFILER_Y = 150;
+    private static final long NANOS_PER_HUNDREDTH_MS = 10000L;
+    private static final int HUNDREDTHS = 100;
+    private static final int TENTHS = 10;
+    private static final double P50 = 50;
+    private static final double P95 = 95;
+    private static final double P99 = 99;
+    private static final FramePhase[] PHASES = FramePhase.values();
     private final AssetsLoader assetsLoader;
     private final SpriteBatch spriteBatch;
     private final float maxCoinCountWidth;
     private final ShapeRenderer shapeRenderer;
+    private final StringBuilder profilerText = new StringBuilder();
+    private final Matrix4 projection = new Matrix4();
+    private final GlyphLayout pauseLayout = new GlyphLayout();
+    private final GlyphLayout unpauseLayout = new GlyphLayout();
+    private final Array<TextureRegion> coinDigits = new Array<>(true, MAX_DIGITS, TextureRegion.class);
+    private final FloatArray digitXs = new FloatArray(MAX_DIGITS);
+    private final Array<TextureRegion> hearts = new Array<>(true, MAX_HEARTS, TextureRegion.class);
+    private final Rectangle pauseTextBounds = new Rectangle();
     private BitmapFont pauseFont;
-    private Rectangle pauseTextBounds;
+    private GlyphLayout shownPauseLayout;
     private int coinCount;
     private boolean isPaused = false;
+    private final TextureRegion layerRegion = new TextureRegion();
+    private FrameBuffer layer;
+    private int cacheHits;
+    private int cacheMisses;
+    private FrameProfiler profiler;
+    private RenderMetrics metrics;
+    private boolean profilerVisible = false;
+    private int framesSinceProfilerRefresh = PROFILER_REFRESH_FRAMES;
+    private boolean layoutDirty = true;
+    private int shownCoinCount;
+    private int shownLives;
+    private int shownMaxLives;
+    private boolean shownPaused;
+    private int shownWidth;
+    private int shownHeight;
+    private float pauseTextX;
+    private float pauseTextY;
+    private float coinX;
+    private float coinWidth;
+    private float coinHeight;
+    private float heartsX;
+    private float heartsY;
 
     /**
      * Constructs a HUD.
@@ -56,18 +107,16 @@ public final class Hud {
         maxCoinCountWidth = calculateMaxCoinCountWidth();
     }
 
+    /**
+     * Loads the font of the pause button and lays out both of its texts once.
+     */
     private void initializePauseFont() {
         pauseFont = new BitmapFont(Gdx.files.internal("font.fnt"));
         pauseFont.getData().setScale(PAUSE_TEXT_SCALE);
         pauseFont.setColor(Color.DARK_GRAY);
-        GlyphLayout layout = new GlyphLayout(pauseFont, "PAUSE");
-        float pauseTextWidth = layout.width;
-        float pauseTextHeight = layout.height;
-
-        float y = Gdx.graphics.getHeight() - PAUSE_TEXT_Y_OFFSET;
-        pauseTextBounds = new Rectangle(PAUSE_TEXT_X_OFFSET + PAUSE_TEXT_X_OFFSET,
-                y - pauseTextHeight - PAUSE_TEXT_HEIGHT_OFFSET, pauseTextWidth + PAUSE_TEXT_X_OFFSET,
-                pauseTextHeight + PAUSE_TEXT_X_OFFSET);
+        pauseLayout.setText(pauseFont, "PAUSE");
+        unpauseLayout.setText(pauseFont, "UNPAUSE");
+        shownPauseLayout = pauseLayout;
     }
 
     /**
@@ -76,8 +125,7 @@ public final class Hud {
      * @return the maximum width of the coin count
      */
     private float calculateMaxCoinCountWidth() {
-        Array<TextureRegion> maxDigits = assetsLoader.getNumberTextures(MAX_COIN_COUNT);
-        return getTotalWidth(maxDigits) * NUMBER_SCALE;
+        return getTotalWidth(assetsLoader.getNumberTextures(MAX_COIN_COUNT, coinDigits)) * NUMBER_SCALE;
     }
 
     /**
@@ -90,84 +138,223 @@ public final class Hud {
     }
 
     /**
-     * Renders the HUD.
+     * Redraws the HUD's layer if the coin count, the lives, the pause state or the size of the window changed since
+     * it was last drawn. Must be called outside of a batch pass.
      *
      * @param playerLives the player's lives
      * @param maxLives    the maximum number of lives
      */
-    public void render(final int playerLives, final int maxLives) {
-        spriteBatch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+    public void refresh(final int playerLives, final int maxLives) {
+        if (layoutDirty || coinCount != shownCoinCount || playerLives != shownLives || maxLives != shownMaxLives
+                || isPaused != shownPaused || Gdx.graphics.getWidth() != shownWidth
+                || Gdx.graphics.getHeight() != shownHeight) {
+            rebuildLayout(playerLives, maxLives);
+            redrawLayer();
+            cacheMisses++;
+        } else {
+            cacheHits++;
+        }
+        if (metrics != null) {
+            metrics.setHudCache(cacheHits, cacheMisses);
+        }
+    }
+
+    /**
+     * Submits the HUD's layer as one quad over the level. The layer's colors are already multiplied by their alpha,
+     * so it is blended accordingly.
+     *
+     * @param queue  the queue of the level's sprites
+     * @param x      the left of the view, in the units of the queue's batch
+     * @param y      the bottom of the view
+     * @param width  the width of the view
+     * @param height the height of the view
+     */
+    public void submitLayer(final RenderQueue queue, final float x, final float y, final float width,
+                            final float height) {
+        queue.submit(RenderLayer.HUD, layerRegion, x, y, width, height, true);
+    }
+
+    /**
+     * Draws the frame timings overlay over the window, if it is shown.
+     */
+    public void renderProfiler() {
+        if (!profilerVisible || profiler == null) {
+            return;
+        }
+        spriteBatch.setProjectionMatrix(projection);
+        spriteBatch.begin();
+        drawProfiler();
+        spriteBatch.end();
+    }
+
+    /**
+     * Draws the pause text, the coin count and the hearts into the layer, over a transparent background. The alpha
+     * of the layer accumulates like coverage, so the layer blends over the level as the sprites would have.
+     */
+    private void redrawLayer() {
+        layer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        spriteBatch.setProjectionMatrix(projection);
+        spriteBatch.setBlendFunctionSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE,
+                GL20.GL_ONE_MINUS_SRC_ALPHA);
         spriteBatch.begin();
         drawPauseText();
         drawCoinCount();
-        drawLives(playerLives, maxLives);
+        drawLives();
         spriteBatch.end();
+        spriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        layer.end();
     }
 
     /**
-     * Draws the pause or unpause text.
+     * Works out the regions and positions of the pause text, the coin count and the hearts.
+     *
+     * @param playerLives the player's lives
+     * @param maxLives    the maximum number of lives
      */
-    private void drawPauseText() {
-        String pauseText;
-        if (isPaused()) {
-            pauseText = "UNPAUSE";
-        } else {
-            pauseText = "PAUSE";
+    private void rebuildLayout(final int playerLives, final int maxLives) {
+        layoutDirty = false;
+        shownCoinCount = coinCount;
+        shownLives = playerLives;
+        shownMaxLives = maxLives;
+        shownPaused = isPaused;
+        shownWidth = Gdx.graphics.getWidth();
+        shownHeight = Gdx.graphics.getHeight();
+        projection.setToOrtho2D(0, 0, shownWidth, shownHeight);
+        int layerWidth = Math.max(1, shownWidth);
+        int layerHeight = Math.max(1, shownHeight);
+        if (layer == null || layer.getWidth() != layerWidth || layer.getHeight() != layerHeight) {
+            if (layer != null) {
+                layer.dispose();
+            }
+            layer = new FrameBuffer(Pixmap.Format.RGBA8888, layerWidth, layerHeight, false);
+            layerRegion.setRegion(layer.getColorBufferTexture());
+            layerRegion.flip(false, true);
         }
 
-        GlyphLayout layout = new GlyphLayout(pauseFont, pauseText);
-        float pauseTextWidth = layout.width;
+        shownPauseLayout = isPaused ? unpauseLayout : pauseLayout;
+        pauseTextX = COIN_PADDING;
+        pauseTextY = shownHeight - COIN_PADDING;
+        pauseTextBounds.set(pauseTextX, pauseTextY - shownPauseLayout.height, shownPauseLayout.width,
+                shownPauseLayout.height);
 
-        float textX;
-        if (pauseText.equals("PAUSE")) {
-            textX = COIN_PADDING;
-        } else {
-            textX = COIN_PADDING + (pauseTextWidth - layout.width) / DIGIT_SPACING;
+        float x = shownWidth - COIN_PADDING - maxCoinCountWidth;
+        TextureRegion coinTexture = AssetsLoader.CoinAssets.getCoinTexture();
+        coinX = x - coinTexture.getRegionWidth() * NUMBER_SCALE - DIGIT_SPACING;
+        coinWidth = coinTexture.getRegionWidth() * COIN_SIZE_SCALE;
+        coinHeight = coinTexture.getRegionHeight() * COIN_SIZE_SCALE;
+        assetsLoader.getNumberTextures(coinCount, coinDigits);
+        digitXs.clear();
+        for (int i = 0; i < coinDigits.size; i++) {
+            digitXs.add(x);
+            x += coinDigits.get(i).getRegionWidth() * NUMBER_SCALE + DIGIT_SPACING;
+        }
+
+        heartsX = shownWidth - (HEART_SIZE + HEART_SPACING) * maxLives - HEART_X_OFFSET;
+        heartsY = shownHeight - HEART_SIZE - HEART_Y_OFFSET;
+        hearts.clear();
+        for (int i = 0; i < maxLives; i++) {
+            hearts.add(assetsLoader.getHeartRegion(i < playerLives));
+        }
+    }
+
+    /**
+     * Draws the frame timings overlay. The text is only rebuilt every few frames.
+     */
+    private void drawProfiler() {
+        if (++framesSinceProfilerRefresh >= PROFILER_REFRESH_FRAMES) {
+            framesSinceProfilerRefresh = 0;
+            profilerText.setLength(0);
+            profilerText.append("phase  p50  p95  p99  max (ms)\n");
+            for (FramePhase phase : PHASES) {
+                appendTimings(phase.name(), profiler.getPhase(phase));
+            }
+            appendTimings("FRAME", profiler.getFrames());
+            if (metrics != null) {
+                appendMetrics();
+            }
+        }
+        pauseFont.draw(spriteBatch, profilerText, PROFILER_X, Gdx.graphics.getHeight() - PROFILER_Y);
+    }
+
+    /**
+     * Appends a line of the overlay with the percentiles of a histogram.
+     *
+     * @param name      the name of the line
+     * @param histogram the histogram of the timings, in nanoseconds
+     */
+    private void appendTimings(final String name, final RollingHistogram histogram) {
+        profilerText.append(name);
+        appendMillis(histogram.getPercentile(P50));
+        appendMillis(histogram.getPercentile(P95));
+        appendMillis(histogram.getPercentile(P99));
+        appendMillis(histogram.getMax());
+        profilerText.append('\n');
+    }
+
+    /**
+     * Appends the lines of the overlay with the render metrics.
+     */
+    private void appendMetrics() {
+        profilerText.append("coins ").append(metrics.getVisibleCoins()).append('/').append(metrics.getTotalCoins())
+                .append("  mushrooms ").append(metrics.getVisibleMushrooms()).append('/')
+                .append(metrics.getTotalMushrooms()).append('\n');
+        profilerText.append("tile chunks ").append(metrics.getVisibleTileChunks()).append('/')
+                .append(metrics.getResidentTileChunks()).append("  calls ").append(metrics.getTileRenderCalls())
+                .append("  stalls ").append(metrics.getTileChunkStalls()).append('\n');
+        profilerText.append("texture binds ").append(metrics.getTextureBindings()).append("  draw calls ")
+                .append(metrics.getDrawCalls()).append('\n');
+        profilerText.append("hud cache hits ").append(metrics.getHudCacheHits()).append("  misses ")
+                .append(metrics.getHudCacheMisses()).append('\n');
+        profilerText.append("sprite batch calls ").append(metrics.getBatchRenderCalls()).append("  max sprites ")
+                .append(metrics.getMaxSpritesInBatch()).append('\n');
+    }
+
+    /**
+     * Appends a duration in milliseconds with two decimals, without formatting a string.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    private void appendMillis(final long nanos) {
+        long hundredths = nanos / NANOS_PER_HUNDREDTH_MS;
+        long fraction = hundredths % HUNDREDTHS;
+        profilerText.append("  ").append(hundredths / HUNDREDTHS).append('.');
+        if (fraction < TENTHS) {
+            profilerText.append('0');
         }
+        profilerText.append(fraction);
+    }
 
-        float textY = Gdx.graphics.getHeight() - COIN_PADDING;
-        pauseFont.draw(spriteBatch, pauseText, textX, textY);
-        pauseTextBounds.set(textX, textY - layout.height, pauseTextWidth, layout.height);
+    /**
+     * Draws the pause or unpause text.
+     */
+    private void drawPauseText() {
+        pauseFont.draw(spriteBatch, shownPauseLayout, pauseTextX, pauseTextY);
     }
 
     /**
      * Draws the coin count.
      */
     private void drawCoinCount() {
-        Array<TextureRegion> digitTextures = assetsLoader.getNumberTextures(coinCount);
-        float x = Gdx.graphics.getWidth() - COIN_PADDING - maxCoinCountWidth;
-        TextureRegion coinTexture = AssetsLoader.CoinAssets.getCoinTexture();
-        float coinX = x - coinTexture.getRegionWidth() * NUMBER_SCALE - DIGIT_SPACING;
-        float coinY = COIN_PADDING - 1;
-
-        spriteBatch.draw(coinTexture, coinX, coinY, coinTexture.getRegionWidth() * COIN_SIZE_SCALE,
-                coinTexture.getRegionHeight() * COIN_SIZE_SCALE);
-        for (int i = 0; i < digitTextures.size; i++) {
-            TextureRegion digit = digitTextures.get(i);
-            float scaledWidth = digit.getRegionWidth() * NUMBER_SCALE;
-            float scaledHeight = digit.getRegionHeight() * NUMBER_SCALE;
-            spriteBatch.draw(digit, x, COIN_PADDING, scaledWidth, scaledHeight);
-            x += scaledWidth + DIGIT_SPACING;
+        spriteBatch.draw(AssetsLoader.CoinAssets.getCoinTexture(), coinX, COIN_PADDING - 1, coinWidth, coinHeight);
+        for (int i = 0; i < coinDigits.size; i++) {
+            TextureRegion digit = coinDigits.get(i);
+            spriteBatch.draw(digit, digitXs.get(i), COIN_PADDING, digit.getRegionWidth() * NUMBER_SCALE,
+                    digit.getRegionHeight() * NUMBER_SCALE);
         }
     }
 
     /**
      * Draws the lives as hearts.
-     *
-     * @param playerLives the player's lives
-     * @param maxLives    the maximum number of lives
      */
-    private void drawLives(final int playerLives, final int maxLives) {
-        float startX = Gdx.graphics.getWidth() - (HEART_SIZE + HEART_SPACING) * maxLives;
-        for (int i = 0; i < maxLives; i++) {
-            Texture heartTexture = assetsLoader.getHeartTexture(i < playerLives);
-            spriteBatch.draw(new TextureRegion(heartTexture), startX + i * (HEART_SIZE + HEART_SPACING)
-                            - HEART_X_OFFSET, Gdx.graphics.getHeight() - HEART_SIZE - HEART_Y_OFFSET,
-                    HEART_SIZE, HEART_SIZE);
+    private void drawLives() {
+        for (int i = 0; i < hearts.size; i++) {
+            spriteBatch.draw(hearts.get(i), heartsX + i * (HEART_SIZE + HEART_SPACING), heartsY, HEART_SIZE,
+                    HEART_SIZE);
         }
     }
 
-
     /**
      * Returns the total width of the digits.
      *
@@ -190,17 +377,60 @@ public final class Hud {
      */
 
     public boolean checkPausePressed() {
-        if (Gdx.input.justTouched()) {
-            Vector3 touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            if (pauseTextBounds.contains(touchPos.x, Gdx.graphics.getHeight() - touchPos.y)) {
-                isPaused = !isPaused;
-                return true;
-            }
-        }
+        return Gdx.input.justTouched()
+                && pauseTextBounds.contains(Gdx.input.getX(), Gdx.graphics.getHeight() - Gdx.input.getY());
+    }
+
+    /**
+     * Checks if the restart key was pressed this frame.
+     *
+     * @return true if the level should restart
+     */
+    public boolean checkRestartPressed() {
+        return Gdx.input.isKeyJustPressed(RESTART_KEY);
+    }
 
+    /**
+     * Shows or hides the frame timings overlay when its key is pressed.
+     *
+     * @return true if the overlay was toggled
+     */
+    public boolean checkProfilerToggled() {
+        if (Gdx.input.isKeyJustPressed(PROFILER_TOGGLE_KEY)) {
+            profilerVisible = !profilerVisible;
+            framesSinceProfilerRefresh = PROFILER_REFRESH_FRAMES;
+            return true;
+        }
         return false;
     }
 
+    /**
+     * Sets the profiler whose timings the overlay shows.
+     *
+     * @param profiler the frame profiler
+     */
+    public void setProfiler(final FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Sets the render metrics the overlay shows.
+     *
+     * @param metrics the render metrics
+     */
+    public void setMetrics(final RenderMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns if the frame timings overlay is shown.
+     *
+     * @return true if the overlay is shown
+     */
+    public boolean isProfilerVisible() {
+        return profilerVisible;
+    }
+
     /**
      * Returns if the game is paused.
      *
@@ -211,10 +441,22 @@ public final class Hud {
         return isPaused;
     }
 
+    /**
+     * Sets if the game is paused, which decides the text of the pause button.
+     *
+     * @param paused true if the game is paused
+     */
+    public void setPaused(final boolean paused) {
+        isPaused = paused;
+    }
+
     /**
      * Disposes the HUD.
      */
     public void dispose() {
+        if (layer != null) {
+            layer.dispose();
+        }
         pauseFont.dispose();
         shapeRenderer.dispose();
     }
@@ -229,6 +471,10 @@ public final class Hud {
         return "Hud{"
                 + "assetsLoader=" + assetsLoader + ", spriteBatch=" + spriteBatch + ", maxCoinCountWidth="
                 + maxCoinCountWidth + ", shapeRenderer=" + shapeRenderer + ", pauseFont=" + pauseFont
-                + ", pauseTextBounds=" + pauseTextBounds + ", coinCount=" + coinCount + ", isPaused=" + isPaused + '}';
+                + ", pauseTextBounds=" + pauseTextBounds + ", coinCount=" + coinCount + ", isPaused=" + isPaused
+                + ", profiler=" + profiler + ", metrics=" + metrics + ", profilerVisible=" + profilerVisible
+                + ", layoutDirty=" + layoutDirty + ", shownCoinCount=" + shownCoinCount + ", shownLives=" + shownLives
+                + ", shownPaused=" + shownPaused + ", layer=" + layer + ", cacheHits=" + cacheHits + ", cacheMisses="
+                + cacheMisses + '}';
     }
 }
@@ -2,15 +2,12 @@ package com.toads.odyssey.view;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
@@ -18,12 +15,25 @@ import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.toads.odyssey.ToadsOdyssey;
 import com.toads.odyssey.model.Coin;
+import com.toads.odyssey.model.LevelSimulation;
 import com.toads.odyssey.model.Mushroom;
 import com.toads.odyssey.model.Player;
+import com.toads.odyssey.model.SimulationSnapshot;
+import com.toads.odyssey.model.SimulationThread;
+import com.toads.odyssey.model.SnapshotBuffer;
 import com.toads.odyssey.util.AssetsLoader;
 import com.toads.odyssey.util.AssetsLoader.CoinAssets;
-import com.toads.odyssey.util.CollisionDetection;
+import com.toads.odyssey.util.Constants;
+import com.toads.odyssey.util.Cutscene;
+import com.toads.odyssey.util.FramePhase;
+import com.toads.odyssey.util.FramePipeline;
+import com.toads.odyssey.util.FrameProfiler;
+import com.toads.odyssey.util.FrameTask;
+import com.toads.odyssey.util.InputRecorder;
+import com.toads.odyssey.util.InputReplay;
+import com.toads.odyssey.util.LaunchOptions;
 import com.toads.odyssey.util.LevelManager;
+import com.toads.odyssey.util.XSortedIndex;
 import static com.toads.odyssey.ToadsOdyssey.PPM;
 import static com.toads.odyssey.ToadsOdyssey.SCREEN_HEIGHT;
 import static com.toads.odyssey.ToadsOdyssey.SCREEN_WIDTH;
@@ -36,58 +46,53 @@ import static com.toads.odyssey.ToadsOdyssey.SCREEN_WIDTH;
  */
 public abstract class LevelBase implements Screen {
 
-    private static final float GRAVITY_Y = -20f;
-    private static final float ORIGINAL_PLAYER_X = 100f / PPM;
-    private static final float ORIGINAL_PLAYER_Y = 400f / PPM;
-    private static final float RESPAWN_DELAY = 0.5f;
     private static final float COIN_TEXTURE_X = 10f;
     private static final float COIN_TEXTURE_Y = 10f;
     private static final float CLEAR_COLOR_R = 199f / 255f;
     private static final float CLEAR_COLOR_G = 219f / 255f;
     private static final float CLEAR_COLOR_B = 238f / 255f;
     private static final float CLEAR_COLOR_ALPHA = 1f;
-    private static final float GREY_COLOR = 0.5f;
-    private static final float GREY_COLOR_ALPHA = 0.3f;
+    private static final int PAUSED_FPS = 15;
+    private static final int RUNNING_FPS = 0;
     private static final int PLAYER_MAX_LIVES = 3;
+    private static final float NANOS_PER_SECOND = 1e9f;
+    private static final float PLAYER_SIZE = Constants.THIRTY_TWO / PPM;
+    private static final float CULLING_MARGIN = 0.5f;
+    private static final float GAME_WON_PRELOAD_DISTANCE = 2 * SCREEN_WIDTH / PPM;
+    private static final float PROP_CACHE_MARGIN = SCREEN_WIDTH / PPM;
     /**
-     * The player.
+     * The simulation of the level.
      */
-    protected Player player;
-    /**
-     * The map.
-     */
-    protected TiledMap map;
+    protected LevelSimulation simulation;
     /**
      * The debug renderer.
      */
     protected Box2DDebugRenderer debugRenderer;
-    /**
-     * The world.
-     */
-    protected World world;
-    /**
-     * The coins.
-     */
-    protected Array<Coin> coins;
-    /**
-     * The mushrooms.
-     */
-    protected Array<Mushroom> mushrooms;
     /**
      * The HUD.
      */
     protected Hud hud;
     private final ToadsOdyssey game;
     private final OrthographicCamera camera;
-    private final OrthogonalTiledMapRenderer renderer;
+    private final ChunkedTileMapRenderer renderer;
     private final Viewport gamePort;
-    private Vector2 originalPlayerPosition;
-    private Texture grayTexture;
-    private int coinCount = 0;
+    private final SnapshotBuffer snapshots;
+    private final RenderQueue renderQueue = new RenderQueue();
+    private final AnimatedPropCache coinCache;
+    private final AnimatedPropCache mushroomCache;
+    private final PausedFrame pausedFrame;
+    private final FramePipeline pipeline;
+    private final FrameProfiler profiler;
+    private final RenderMetrics metrics = new RenderMetrics();
+    private final GLProfiler glProfiler;
+    private SimulationSnapshot currentSnapshot;
+    private SimulationThread simulationThread;
     private GameState gameState = GameState.RUNNING;
-    private float respawnTimer = 0.0f;
-    private boolean awaitingRespawn = false;
     private float stateTime = 0f;
+    private float fixedStepAccumulator = 0f;
+    private final float levelEnd;
+    private CutscenePlayer gameOverCutscene;
+    private CutscenePlayer gameWonCutscene;
 
     /**
      * Constructs a level.
@@ -99,80 +104,206 @@ public abstract class LevelBase implements Screen {
         camera = new OrthographicCamera();
         gamePort = new StretchViewport(SCREEN_WIDTH / PPM,
                 SCREEN_HEIGHT / PPM, camera);
-        loadMap();
+        simulation = createSimulation();
+        setUpInput(game.getOptions());
+        snapshots = new SnapshotBuffer();
+        snapshots.publish(simulation, 1f);
+        currentSnapshot = snapshots.acquire();
         hud = new Hud(AssetsLoader.getInstance(), game.getBatch());
-        renderer = new OrthogonalTiledMapRenderer(map, 2 / PPM);
-        world = new World(new Vector2(0, GRAVITY_Y), true);
-        world.setContactListener(CollisionDetection.getInstance());
+        renderer = new ChunkedTileMapRenderer(simulation.getMap(), 2 / PPM, gamePort.getWorldWidth());
+        coinCache = new AnimatedPropCache(AssetsLoader.getInstance().getCoinAnimation(), PROP_CACHE_MARGIN);
+        mushroomCache = new AnimatedPropCache(AssetsLoader.MushroomAssets.mushroomAnimation, PROP_CACHE_MARGIN);
+        levelEnd = simulation.getMap().getProperties().get("width", 0, Integer.class)
+                * simulation.getMap().getProperties().get("tilewidth", 0, Integer.class) * 2 / PPM;
         debugRenderer = new Box2DDebugRenderer();
-        coins = new Array<>();
-        mushrooms = new Array<>();
         setCameraPosition();
-        loadEntities();
-        setLevel();
-        setOriginalPlayerPosition();
-        setUpPauseAssets();
+        pausedFrame = new PausedFrame(SCREEN_WIDTH, SCREEN_HEIGHT);
+        pipeline = new FramePipeline();
+        registerPhases();
+        registerRenderPhases();
+        profiler = new FrameProfiler();
+        glProfiler = new GLProfiler(Gdx.graphics);
+        hud.setProfiler(profiler);
+        hud.setMetrics(metrics);
+        if (game.getOptions().getProfileCsvFile() != null) {
+            profiler.startCsv(Gdx.files.absolute(game.getOptions().getProfileCsvFile()));
+        }
     }
 
     /**
-     * Sets up the assets for the pause overlay.
+     * Replays or records the input of the simulation if the game was launched to do so.
+     *
+     * @param options the options the game was launched with
      */
-    private void setUpPauseAssets() {
-        Pixmap grayPixmap = new Pixmap(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), Pixmap.Format.RGBA8888);
-        Color grayColor = new Color(GREY_COLOR, GREY_COLOR, GREY_COLOR, GREY_COLOR_ALPHA);
-        grayPixmap.setColor(grayColor);
-        grayPixmap.fill();
-        grayTexture = new Texture(grayPixmap);
-        grayPixmap.dispose();
+    private void setUpInput(final LaunchOptions options) {
+        if (options.getReplayFile() != null) {
+            simulation.setInputSource(new InputReplay(Gdx.files.absolute(options.getReplayFile())));
+        }
+        if (options.getRecordFile() != null) {
+            simulation.setInputRecorder(new InputRecorder());
+        }
     }
 
     /**
-     * Sets the original position of the player.
+     * Registers the work of a frame in the pipeline. When the simulation runs on the rendering thread its phases
+     * run first, followed by the publishing of its snapshot; otherwise the simulation thread runs them.
+     * When the input is recorded or replayed the simulation is advanced in whole ticks instead, so that it goes
+     * through exactly the same updates as it would headless.
      */
-    private void setOriginalPlayerPosition() {
-        originalPlayerPosition = new Vector2(ORIGINAL_PLAYER_X, ORIGINAL_PLAYER_Y);
+    private void registerPhases() {
+        pipeline.register(FramePhase.INPUT, new FrameTask() {
+            @Override
+            public void run(final float delta) {
+                handlePauseToggle();
+                if (hud.checkRestartPressed() && canRestart()) {
+                    restart();
+                    show();
+                }
+                if (hud.checkProfilerToggled()) {
+                    toggleGlProfiler();
+                }
+            }
+        });
+        if (game.getOptions().isThreadedSimulation()) {
+            return;
+        }
+        if (game.getOptions().isFixedStep()) {
+            pipeline.register(FramePhase.PHYSICS, new FrameTask() {
+                @Override
+                public void run(final float delta) {
+                    updateFixedStep(delta);
+                }
+            });
+        } else {
+            simulation.registerPhases(pipeline);
+            pipeline.register(FramePhase.ANIMATION, new FrameTask() {
+                @Override
+                public void run(final float delta) {
+                    snapshots.publish(simulation, LevelManager.getInstance().getAlpha());
+                }
+            });
+        }
     }
 
     /**
-     * Sets the camera position.
+     * Registers the work of a frame that draws the latest snapshot.
      */
-    private void setCameraPosition() {
-        camera.position.set(gamePort.getWorldWidth() / 2, gamePort.getWorldHeight() / 2, 0);
+    private void registerRenderPhases() {
+        pipeline.register(FramePhase.LOGIC, new FrameTask() {
+            @Override
+            public void run(final float delta) {
+                preloadNextScreen(currentSnapshot);
+            }
+        });
+        pipeline.register(FramePhase.CAMERA, new FrameTask() {
+            @Override
+            public void run(final float delta) {
+                currentSnapshot = snapshots.acquire();
+                setGameState(currentSnapshot.isPaused() ? GameState.PAUSED : GameState.RUNNING);
+                updateCamera(currentSnapshot);
+            }
+        });
+        pipeline.register(FramePhase.WORLD_RENDER, new FrameTask() {
+            @Override
+            public void run(final float delta) {
+                checkIfGameOver(currentSnapshot);
+                if (gameState == GameState.PAUSED) {
+                    renderPaused(currentSnapshot);
+                } else {
+                    renderBackground();
+                    renderEntities(currentSnapshot);
+                }
+            }
+        });
+        pipeline.register(FramePhase.HUD, new FrameTask() {
+            @Override
+            public void run(final float delta) {
+                renderHUD();
+            }
+        });
     }
 
     /**
-     * Loads the map.
+     * Switches between running and paused. A paused level is drawn at a lower frame rate, from the frame captured
+     * when it was paused; the frame is forgotten once the level runs again.
+     *
+     * @param state the state of the latest snapshot
      */
-    protected abstract void loadMap();
+    private void setGameState(final GameState state) {
+        if (state == gameState) {
+            return;
+        }
+        gameState = state;
+        if (state == GameState.PAUSED) {
+            Gdx.graphics.setForegroundFPS(PAUSED_FPS);
+        } else {
+            Gdx.graphics.setForegroundFPS(RUNNING_FPS);
+            pausedFrame.release();
+        }
+    }
 
     /**
-     * Loads the entities.
+     * Sets the camera position.
      */
-    protected abstract void loadEntities();
+    private void setCameraPosition() {
+        camera.position.set(gamePort.getWorldWidth() / 2, gamePort.getWorldHeight() / 2, 0);
+    }
 
     /**
-     * Sets the level.
+     * Creates the simulation of the level.
+     *
+     * @return the simulation of the level
      */
-    protected abstract void setLevel();
+    protected abstract LevelSimulation createSimulation();
 
     /**
-     * Updates the game state.
+     * Advances the simulation by as many whole ticks as fit in the frame time and publishes its snapshot.
      *
      * @param deltaTime the time between frames
      */
-    private void update(final float deltaTime) {
-        LevelManager.getInstance().update(deltaTime);
-        camera.position.set(player.getPosition().x, gamePort.getWorldHeight() / 2, 0);
-        float cameraX = Math.max(player.getPosition().x, gamePort.getWorldWidth() / 2);
+    private void updateFixedStep(final float deltaTime) {
+        fixedStepAccumulator += Math.min(deltaTime, Constants.MAX_FRAME_TIME);
+        while (fixedStepAccumulator >= Constants.TIME_STEP) {
+            simulation.update(Constants.TIME_STEP);
+            fixedStepAccumulator -= Constants.TIME_STEP;
+        }
+        snapshots.publish(simulation, fixedStepAccumulator / Constants.TIME_STEP);
+    }
+
+    /**
+     * Moves the camera to follow the player.
+     *
+     * @param snapshot the snapshot being rendered
+     */
+    private void updateCamera(final SimulationSnapshot snapshot) {
+        float cameraX = Math.max(snapshot.getPlayerX(getAlpha(snapshot)), gamePort.getWorldWidth() / 2);
         camera.position.set(cameraX, gamePort.getWorldHeight() / 2, 0);
         camera.update();
     }
 
+    /**
+     * Returns how far rendering is between the two physics states held by the snapshot.
+     *
+     * @param snapshot the snapshot being rendered
+     * @return the interpolation factor, between 0 and 1
+     */
+    private float getAlpha(final SimulationSnapshot snapshot) {
+        if (simulationThread == null) {
+            return snapshot.getAlpha();
+        }
+        float sinceCapture = (System.nanoTime() - snapshot.getCapturedAt()) / NANOS_PER_SECOND;
+        return Math.min(1f, sinceCapture / Constants.TIME_STEP);
+    }
+
     /**
      * Returns the frame of the player.
      */
     @Override
     public void show() {
+        if (game.getOptions().isThreadedSimulation() && simulationThread == null) {
+            simulationThread = new SimulationThread(simulation, snapshots);
+            simulationThread.start();
+        }
     }
 
     /**
@@ -183,158 +314,265 @@ public abstract class LevelBase implements Screen {
     @Override
     public void render(final float delta) {
         setStateTime(getStateTime() + delta);
-        handlePauseToggle();
-        renderBackground(delta);
-        handlePlayerFallen();
-        handleRespawnAndPlayerDeath(delta);
-        renderEntities(delta);
-        renderHUD();
+        pipeline.run(delta);
+        profiler.record(pipeline);
+        if (glProfiler.isEnabled()) {
+            metrics.setGlCalls(glProfiler.getTextureBindings(), glProfiler.getDrawCalls());
+            glProfiler.reset();
+        }
+    }
+
+    /**
+     * Counts the GL calls of each frame while the frame timings overlay is shown, so it can show how often the
+     * frame switched textures. The calls are not counted otherwise, since counting wraps every GL call.
+     */
+    private void toggleGlProfiler() {
+        if (hud.isProfilerVisible()) {
+            glProfiler.enable();
+            glProfiler.reset();
+        } else {
+            glProfiler.disable();
+        }
     }
 
     /**
      * Handles the pause toggle so that the game can be paused and un-paused.
+     * The simulation pauses on its next tick, so the pause is part of the recorded input. A replay already holds
+     * its pauses, so the button is ignored while replaying.
      */
     private void handlePauseToggle() {
-        if (hud != null && hud.checkPausePressed()) {
-            if (gameState == GameState.RUNNING) {
-                gameState = GameState.PAUSED;
-                player.setCanMove(false);
-            } else {
-                gameState = GameState.RUNNING;
-                player.setCanMove(true);
-            }
+        if (hud != null && game.getOptions().getReplayFile() == null && hud.checkPausePressed()) {
+            simulation.requestPauseToggle();
         }
     }
 
     /**
-     * Renders the background.
+     * Starts decoding the cutscene of the screen likely to follow the level, so its first frames are ready when it
+     * is shown: the game over screen once the player is on their last life, the game won screen once the player
+     * nears the end of the level.
      *
-     * @param delta The time in seconds since the last render.
+     * @param snapshot the latest snapshot
      */
-    private void renderBackground(final float delta) {
-        Gdx.gl.glClearColor(CLEAR_COLOR_R, CLEAR_COLOR_G, CLEAR_COLOR_B, CLEAR_COLOR_ALPHA);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        renderer.setView(camera);
-        renderer.render();
-        camera.update();
-        if (gameState == GameState.RUNNING) {
-            update(delta);
+    private void preloadNextScreen(final SimulationSnapshot snapshot) {
+        if (gameOverCutscene == null && snapshot.getLives() <= 1) {
+            gameOverCutscene = new CutscenePlayer(Cutscene.GAME_OVER);
+        }
+        if (gameWonCutscene == null && snapshot.getPlayerX(1f) >= levelEnd - GAME_WON_PRELOAD_DISTANCE) {
+            gameWonCutscene = new CutscenePlayer(Cutscene.GAME_WON);
         }
     }
 
     /**
-     * Handles the player falling from the map.
+     * Disposes the cutscenes preloaded for the screens that did not follow the level.
      */
-    private void handlePlayerFallen() {
-        if (CollisionDetection.getInstance().hasPlayerFallen() && !awaitingRespawn) {
-            Player.loseLife();
-            awaitingRespawn = true;
-            respawnTimer = 0.0f;
-            CollisionDetection.getInstance().resetPlayerFallen();
+    private void releasePreloadedScreens() {
+        if (gameOverCutscene != null) {
+            gameOverCutscene.dispose();
+            gameOverCutscene = null;
         }
+        if (gameWonCutscene != null) {
+            gameWonCutscene.dispose();
+            gameWonCutscene = null;
+        }
+    }
+
+    /**
+     * Renders the background.
+     */
+    private void renderBackground() {
+        Gdx.gl.glClearColor(CLEAR_COLOR_R, CLEAR_COLOR_G, CLEAR_COLOR_B, CLEAR_COLOR_ALPHA);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        renderer.render(camera);
+        metrics.setTileChunks(renderer.getVisibleChunks(), renderer.getResidentChunks(), renderer.getRenderCalls(),
+                renderer.getStalls());
     }
 
     /**
-     * Handles the player's respawn and player death.
+     * Shows the game over screen once the player has run out of lives.
      *
-     * @param delta The time in seconds since the last render.
+     * @param snapshot the snapshot being rendered
      */
-    private void handleRespawnAndPlayerDeath(final float delta) {
-        if (awaitingRespawn) {
-            respawnTimer += delta;
-            if (respawnTimer >= RESPAWN_DELAY) {
-                if (Player.isAlive()) {
-                    respawnPlayer();
-                }
-                awaitingRespawn = false;
-            }
-        }
-        if (!Player.isAlive()) {
+    private void checkIfGameOver(final SimulationSnapshot snapshot) {
+        if (snapshot.isGameOver()) {
             setGameOver();
         }
     }
 
     /**
-     * Renders the entities coin, mushroom, and player.
+     * Renders the entities coin, mushroom, and player, and the HUD's layer over them. The coins and mushrooms are
+     * drawn from their caches; the rest is queued first and drawn sorted by layer and texture, and the batch's draw
+     * calls are counted.
      *
-     * @param delta The time in seconds since the last render.
-     */
-    private void renderEntities(final float delta) {
-        game.getBatch().setProjectionMatrix(camera.combined);
-        game.getBatch().begin();
-        renderMushroom(delta);
-        renderCoins(delta);
-        player.update(delta);
-        player.draw(game.getBatch());
-        renderPauseOverlay();
-        checkIfGameWon();
-        game.getBatch().end();
+     * @param snapshot the snapshot being rendered
+     */
+    private void renderEntities(final SimulationSnapshot snapshot) {
+        refreshHud(snapshot);
+        renderMushroom(snapshot);
+        renderCoins(snapshot);
+        renderPlayer(snapshot);
+        submitHudLayer();
+        flushRenderQueue();
+        checkIfGameWon(snapshot);
     }
 
     /**
-     * Renders the mushroom.
+     * Renders the paused level. The first frame after the pause captures the tiles and the entities, without the
+     * HUD; every paused frame then only draws the captured frame tinted, and the HUD's layer over it.
      *
-     * @param delta The time in seconds since the last render.
+     * @param snapshot the snapshot being rendered
+     */
+    private void renderPaused(final SimulationSnapshot snapshot) {
+        refreshHud(snapshot);
+        if (!pausedFrame.isCaptured()) {
+            pausedFrame.beginCapture();
+            renderBackground();
+            renderMushroom(snapshot);
+            renderCoins(snapshot);
+            renderPlayer(snapshot);
+            flushRenderQueue();
+            pausedFrame.endCapture(gamePort);
+        }
+        pausedFrame.draw(game.getBatch());
+        submitHudLayer();
+        flushRenderQueue();
+    }
+
+    /**
+     * Queues the HUD's layer over the view.
+     */
+    private void submitHudLayer() {
+        hud.submitLayer(renderQueue, camera.position.x - gamePort.getWorldWidth() / 2,
+                camera.position.y - gamePort.getWorldHeight() / 2, gamePort.getWorldWidth(),
+                gamePort.getWorldHeight());
+    }
+
+    /**
+     * Draws the queued sprites in one batch pass and counts its draw calls.
      */
-    private void renderMushroom(final float delta) {
-        for (int i = 0; i < mushrooms.size; i++) {
-            Mushroom mushroom = mushrooms.get(i);
-            if (gameState == GameState.RUNNING) {
-                mushroom.update(delta);
+    private void flushRenderQueue() {
+        SpriteBatch batch = game.getBatch();
+        batch.setProjectionMatrix(camera.combined);
+        batch.maxSpritesInBatch = 0;
+        batch.begin();
+        renderQueue.flush(batch);
+        batch.end();
+        metrics.setBatch(batch.renderCalls, batch.maxSpritesInBatch);
+    }
+
+    /**
+     * Renders the mushrooms from their cache, rebuilding it first if the view left its window.
+     *
+     * @param snapshot the snapshot being rendered
+     */
+    private void renderMushroom(final SimulationSnapshot snapshot) {
+        Array<Mushroom> mushrooms = simulation.getMushrooms();
+        if (mushroomCache.isStale(getViewLeft(), getViewRight(), 0)) {
+            mushroomCache.begin(getViewLeft(), getViewRight(), 0);
+            XSortedIndex index = simulation.getMushroomIndex();
+            float minX = mushroomCache.getLeft();
+            int to = index.to(mushroomCache.getRight());
+            for (int p = index.from(minX); p < to; p++) {
+                if (index.overlaps(p, minX)) {
+                    Mushroom mushroom = mushrooms.get(index.getId(p));
+                    mushroomCache.add(mushroom.getX(), mushroom.getY(), mushroom.getWidth(), mushroom.getHeight());
+                }
             }
-            mushroom.draw(game.getBatch());
+            mushroomCache.end();
         }
+        mushroomCache.render(camera.combined, snapshot.getAnimationTime());
+        metrics.setMushrooms(mushroomCache.getCount(), mushrooms.size);
     }
 
     /**
-     * Renders the coins.
+     * Returns the left edge of the part of the level drawn, with a margin.
      *
-     * @param delta The time in seconds since the last render.
+     * @return the left edge of the view
      */
-    private void renderCoins(final float delta) {
-        for (int i = coins.size - 1; i >= 0; i--) {
-            Coin coin = coins.get(i);
-            if (gameState == GameState.RUNNING) {
-                coin.update(delta);
-                if (coin.isCollision(player.getBody())) {
-                    coinCount++;
-                    coins.removeIndex(i);
-                    continue;
+    private float getViewLeft() {
+        return camera.position.x - gamePort.getWorldWidth() / 2 - CULLING_MARGIN;
+    }
+
+    /**
+     * Returns the right edge of the part of the level drawn, with a margin.
+     *
+     * @return the right edge of the view
+     */
+    private float getViewRight() {
+        return camera.position.x + gamePort.getWorldWidth() / 2 + CULLING_MARGIN;
+    }
+
+    /**
+     * Renders the coins from their cache, rebuilding it first if the view left its window or a coin was collected,
+     * and queues the coin icon.
+     *
+     * @param snapshot the snapshot being rendered
+     */
+    private void renderCoins(final SimulationSnapshot snapshot) {
+        Array<Coin> coins = snapshot.getCoins();
+        if (coinCache.isStale(getViewLeft(), getViewRight(), snapshot.getCoinCount())) {
+            coinCache.begin(getViewLeft(), getViewRight(), snapshot.getCoinCount());
+            XSortedIndex index = simulation.getCoinIndex();
+            float minX = coinCache.getLeft();
+            int to = index.to(coinCache.getRight());
+            for (int p = index.from(minX); p < to; p++) {
+                int id = index.getId(p);
+                if (index.overlaps(p, minX) && !snapshot.isCoinCollected(id)) {
+                    Coin coin = coins.get(id);
+                    coinCache.add(coin.getX(), coin.getY(), coin.getWidth(), coin.getHeight());
                 }
             }
-            coin.draw(game.getBatch());
+            coinCache.end();
         }
+        coinCache.render(camera.combined, snapshot.getAnimationTime());
+        metrics.setCoins(coinCache.getCount(), coins.size - snapshot.getCoinCount());
         TextureRegion coinTexture = CoinAssets.getCoinTexture();
-        game.getBatch().draw(coinTexture, COIN_TEXTURE_X, COIN_TEXTURE_Y);
+        renderQueue.submit(RenderLayer.ENTITIES, coinTexture, COIN_TEXTURE_X, COIN_TEXTURE_Y,
+                coinTexture.getRegionWidth(), coinTexture.getRegionHeight());
     }
 
-
     /**
-     * Renders the pause overlay.
+     * Queues the player.
+     *
+     * @param snapshot the snapshot being rendered
      */
-    private void renderPauseOverlay() {
-        if (gameState == GameState.PAUSED) {
-            game.getBatch().draw(grayTexture, 0, 0);
+    private void renderPlayer(final SimulationSnapshot snapshot) {
+        TextureRegion region = AssetsLoader.getInstance().getPlayerFrame(snapshot.getPlayerMode(),
+                snapshot.getPlayerStateTime());
+        if (region.isFlipX() != snapshot.isPlayerFacingRight()) {
+            region.flip(true, false);
         }
+        float alpha = getAlpha(snapshot);
+        renderQueue.submit(RenderLayer.PLAYER, region, snapshot.getPlayerX(alpha) - PLAYER_SIZE / 2,
+                snapshot.getPlayerY(alpha) - PLAYER_SIZE / 2, PLAYER_SIZE, PLAYER_SIZE);
     }
 
     /**
      * Checks if the player won the game by reaching the door at the end of the level.
+     *
+     * @param snapshot the snapshot being rendered
      */
-    private void checkIfGameWon() {
-        if (CollisionDetection.getInstance().isDoorReached()) {
+    private void checkIfGameWon(final SimulationSnapshot snapshot) {
+        if (snapshot.isDoorReached()) {
             setGameWon();
         }
     }
 
     /**
-     * Renders the HUD.
+     * Redraws the HUD's layer if what it shows changed. The layer itself is drawn with the entities.
+     *
+     * @param snapshot the snapshot being rendered
+     */
+    private void refreshHud(final SimulationSnapshot snapshot) {
+        hud.setPaused(snapshot.isPaused());
+        hud.updateCoinCount(snapshot.getCoinCount());
+        hud.refresh(snapshot.getLives(), PLAYER_MAX_LIVES);
+    }
+
+    /**
+     * Renders the frame timings overlay over the HUD, if it is shown.
      */
     private void renderHUD() {
-        if (hud != null) {
-            hud.updateCoinCount(coinCount);
-            hud.render(player.getLives(), PLAYER_MAX_LIVES);
-        }
+        hud.renderProfiler();
     }
 
     /**
@@ -363,10 +601,31 @@ public abstract class LevelBase implements Screen {
     }
 
     /**
-     * Hides the game.
+     * Hides the game, saves the input recording if the input was recorded, closes the frame timings file,
+     * disposes the preloaded cutscenes, as the screen shown next has already taken its own, and lifts the frame rate
+     * limit of a paused level.
      */
     @Override
     public void hide() {
+        stopSimulationThread();
+        releasePreloadedScreens();
+        saveRecording();
+        profiler.stopCsv();
+        glProfiler.disable();
+        setGameState(GameState.RUNNING);
+    }
+
+    /**
+     * Writes the recorded input to the file the game was launched with, once.
+     */
+    private void saveRecording() {
+        InputRecorder recorder = simulation.getInputRecorder();
+        if (recorder != null) {
+            FileHandle file = Gdx.files.absolute(game.getOptions().getRecordFile());
+            recorder.save(file);
+            simulation.setInputRecorder(null);
+            Gdx.app.log("LevelBase", "Recorded " + recorder.getTickCount() + " ticks to " + file.path());
+        }
     }
 
     /**
@@ -384,7 +643,7 @@ public abstract class LevelBase implements Screen {
      * @return the world
      */
     public World getWorld() {
-        return world;
+        return simulation.getWorld();
     }
 
     /**
@@ -393,28 +652,101 @@ public abstract class LevelBase implements Screen {
      * @return the player
      */
     public Player getPlayer() {
-        return player;
+        return simulation.getPlayer();
+    }
+
+    /**
+     * Returns the simulation of the level.
+     *
+     * @return the simulation of the level
+     */
+    public LevelSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Returns the counters of what the last frame drew.
+     *
+     * @return the render metrics
+     */
+    public RenderMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the profiler that collects the timings of each frame of the level.
+     *
+     * @return the frame profiler
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Returns the pipeline that runs each frame of the level.
+     *
+     * @return the frame pipeline
+     */
+    public FramePipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Stops the simulation thread, if the simulation runs on one.
+     */
+    private void stopSimulationThread() {
+        if (simulationThread != null) {
+            simulationThread.stop();
+            simulationThread = null;
+        }
     }
 
     /**
-     * Resets the player's position.
+     * Returns true if the level can be restarted. A recorded or replayed game cannot, since the restart is not part
+     * of its input.
+     *
+     * @return true if the level can be restarted
      */
-    private void respawnPlayer() {
-        player.resetPosition(originalPlayerPosition);
+    public boolean canRestart() {
+        return !game.getOptions().isFixedStep();
+    }
+
+    /**
+     * Restarts the level in place, keeping its map, its world and everything drawing them. The simulation thread,
+     * if there is one, is stopped during the restart and started again when the level is shown.
+     */
+    public void restart() {
+        stopSimulationThread();
+        simulation.restart();
+        releasePreloadedScreens();
+        fixedStepAccumulator = 0f;
+        stateTime = 0f;
+        snapshots.publish(simulation, 1f);
+        currentSnapshot = snapshots.acquire();
+        setGameState(GameState.RUNNING);
+        coinCache.invalidate();
+        mushroomCache.invalidate();
+        setCameraPosition();
     }
 
     /**
      * Sets the game over screen.
      */
     public void setGameOver() {
-        game.setScreen(new GameOverScreen(game));
+        stopSimulationThread();
+        CutscenePlayer cutscene = gameOverCutscene != null ? gameOverCutscene : new CutscenePlayer(Cutscene.GAME_OVER);
+        gameOverCutscene = null;
+        game.setScreen(new GameOverScreen(game, cutscene, this));
     }
 
     /**
      * Sets the game won screen.
      */
     public void setGameWon() {
-        game.setScreen(new GameWonScreen(game));
+        stopSimulationThread();
+        CutscenePlayer cutscene = gameWonCutscene != null ? gameWonCutscene : new CutscenePlayer(Cutscene.GAME_WON);
+        gameWonCutscene = null;
+        game.setScreen(new GameWonScreen(game, cutscene));
     }
 
     /**
@@ -440,14 +772,12 @@ public abstract class LevelBase implements Screen {
      */
     @Override
     public void dispose() {
-        for (int i = 0; i < coins.size; i++) {
-            Coin coin = coins.get(i);
-            coin.dispose();
-        }
-        grayTexture.dispose();
-        map.dispose();
+        stopSimulationThread();
+        pausedFrame.dispose();
         renderer.dispose();
-        world.dispose();
+        coinCache.dispose();
+        mushroomCache.dispose();
+        simulation.dispose();
         debugRenderer.dispose();
         hud.dispose();
     }
@@ -459,11 +789,11 @@ public abstract class LevelBase implements Screen {
      */
     @Override
     public String toString() {
-        return "LevelBase{" + "player=" + player + ", map=" + map + ", debugRenderer=" + debugRenderer + ", world="
-                + world + ", coins=" + coins + ", mushrooms=" + mushrooms + ", hud=" + hud + ", game=" + game
-                + ", camera=" + camera + ", renderer=" + renderer + ", gamePort=" + gamePort
-                + ", originalPlayerPosition=" + originalPlayerPosition + ", grayTexture=" + grayTexture
-                + ", coinCount=" + coinCount + ", gameState=" + gameState + ", respawnTimer=" + respawnTimer
-                + ", awaitingRespawn=" + awaitingRespawn + ", stateTime=" + stateTime + '}';
+        return "LevelBase{" + "simulation=" + simulation + ", debugRenderer=" + debugRenderer + ", hud=" + hud
+                + ", game=" + game + ", camera=" + camera + ", renderer=" + renderer + ", gamePort=" + gamePort
+                + ", snapshots=" + snapshots + ", pipeline=" + pipeline + ", profiler=" + profiler + ", metrics="
+                + metrics + ", simulationThread=" + simulationThread + ", pausedFrame=" + pausedFrame + ", gameState="
+                + gameState + ", stateTime=" + stateTime + ", fixedStepAccumulator=" + fixedStepAccumulator
+                + ", gameOverCutscene=" + gameOverCutscene + ", gameWonCutscene=" + gameWonCutscene + '}';
     }
 }
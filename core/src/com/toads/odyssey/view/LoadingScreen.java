@@ -0,0 +1,145 @@
+package com.toads.odyssey.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.toads.odyssey.ToadsOdyssey;
+import com.toads.odyssey.util.AssetsLoader;
+import com.toads.odyssey.util.Cutscene;
+
+/**
+ * Represents the loading screen, shown while the assets of the game are loaded.
+ * Every frame loads the assets for a fixed time budget and draws the progress, so the window stays responsive.
+ * The start screen's cutscene starts decoding behind the progress bar too, and is handed over to the start screen.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class LoadingScreen implements Screen {
+    private static final int LOAD_BUDGET_MILLIS = 12;
+    private static final float FONT_SCALE = 0.3f;
+    private static final float BAR_WIDTH = 600f;
+    private static final float BAR_HEIGHT = 24f;
+    private static final float BAR_BORDER = 3f;
+    private static final float TEXT_GAP = 20f;
+    private static final float BACKGROUND_SHADE = 0.1f;
+    private static final float BORDER_SHADE = 0.6f;
+    private static final int PERCENT = 100;
+    private final ToadsOdyssey game;
+    private final AssetsLoader assetsLoader;
+    private final Texture pixel;
+    private final BitmapFont font;
+    private final StringBuilder text = new StringBuilder();
+    private int shownPercent = -1;
+    private CutscenePlayer intro;
+
+    /**
+     * Constructs a loading screen.
+     * @param game the game instance
+     */
+    public LoadingScreen(final ToadsOdyssey game) {
+        this.game = game;
+        assetsLoader = AssetsLoader.getInstance();
+        intro = new CutscenePlayer(Cutscene.INTRO);
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        pixel = new Texture(pixmap);
+        pixmap.dispose();
+        font = new BitmapFont(Gdx.files.internal("font.fnt"));
+        font.getData().setScale(FONT_SCALE);
+        font.setColor(Color.WHITE);
+    }
+
+    /**
+     * Loads the assets for the frame's budget, then shows the start screen once they are all loaded.
+     * @param delta The time in seconds since the last render.
+     */
+    @Override
+    public void render(final float delta) {
+        if (assetsLoader.update(LOAD_BUDGET_MILLIS)) {
+            assetsLoader.logTimings();
+            CutscenePlayer startCutscene = intro;
+            intro = null;
+            game.setScreen(new StartScreen(game, startCutscene));
+            dispose();
+            return;
+        }
+        drawProgress(assetsLoader.getProgress());
+    }
+
+    /**
+     * Draws the progress bar and the percentage loaded.
+     * @param progress the progress, between 0 and 1
+     */
+    private void drawProgress(final float progress) {
+        int percent = (int) (progress * PERCENT);
+        if (percent != shownPercent) {
+            shownPercent = percent;
+            text.setLength(0);
+            text.append("Loading ").append(percent).append('%');
+        }
+        Gdx.gl.glClearColor(BACKGROUND_SHADE, BACKGROUND_SHADE, BACKGROUND_SHADE, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float x = (width - BAR_WIDTH) / 2;
+        float y = (height - BAR_HEIGHT) / 2;
+        game.getBatch().getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+        game.getBatch().begin();
+        game.getBatch().setColor(BORDER_SHADE, BORDER_SHADE, BORDER_SHADE, 1f);
+        game.getBatch().draw(pixel, x - BAR_BORDER, y - BAR_BORDER, BAR_WIDTH + 2 * BAR_BORDER,
+                BAR_HEIGHT + 2 * BAR_BORDER);
+        game.getBatch().setColor(BACKGROUND_SHADE, BACKGROUND_SHADE, BACKGROUND_SHADE, 1f);
+        game.getBatch().draw(pixel, x, y, BAR_WIDTH, BAR_HEIGHT);
+        game.getBatch().setColor(Color.WHITE);
+        game.getBatch().draw(pixel, x, y, BAR_WIDTH * progress, BAR_HEIGHT);
+        font.draw(game.getBatch(), text, x, y + BAR_HEIGHT + BAR_BORDER + TEXT_GAP);
+        game.getBatch().end();
+    }
+
+    @Override
+    public void show() {
+    }
+
+    @Override
+    public void resize(final int width, final int height) {
+    }
+
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+
+    /**
+     * Disposes the loading screen.
+     */
+    @Override
+    public void dispose() {
+        if (intro != null) {
+            intro.dispose();
+        }
+        pixel.dispose();
+        font.dispose();
+    }
+
+    /**
+     * Returns the loading screen as a string.
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "LoadingScreen{" + "game=" + game + ", shownPercent=" + shownPercent + '}';
+    }
+}
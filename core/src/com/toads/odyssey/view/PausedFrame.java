@@ -0,0 +1,131 @@
+package com.toads.odyssey.view;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.toads.odyssey.util.Constants;
+
+/**
+ * The frame a level showed when it was paused, captured once into a {@link FrameBuffer} and shown through a tint
+ * shader for as long as the level stays paused, so a paused level draws neither its tiles nor its sprites.
+ * The frame is captured at the level's virtual size and stretched over the view like the level itself, so resizing
+ * the window while paused neither rebuilds nor recaptures it.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class PausedFrame implements Disposable {
+    private static final float TINT_GREY = 0.5f;
+    private static final float TINT_STRENGTH = 0.3f;
+    private final FrameBuffer frameBuffer;
+    private final TextureRegion region;
+    private final ShaderProgram shader;
+    private final Matrix4 projection = new Matrix4().setToOrtho2D(0f, 0f, 1f, 1f);
+    private boolean captured = false;
+    private int captures;
+
+    /**
+     * Constructs the frame buffer and compiles the tint shader.
+     *
+     * @param width  the virtual width of the level, in pixels
+     * @param height the virtual height of the level, in pixels
+     */
+    public PausedFrame(final int width, final int height) {
+        frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, width, height, false);
+        region = new TextureRegion(frameBuffer.getColorBufferTexture());
+        region.flip(false, true);
+        shader = new ShaderProgram(Gdx.files.internal(Constants.TINT_VERTEX_SHADER_PATH),
+                Gdx.files.internal(Constants.TINT_FRAGMENT_SHADER_PATH));
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("The tint shader does not compile: " + shader.getLog());
+        }
+    }
+
+    /**
+     * Returns true if the frame was captured since the level was last running.
+     *
+     * @return true if the frame is captured
+     */
+    public boolean isCaptured() {
+        return captured;
+    }
+
+    /**
+     * Starts capturing: what is drawn until {@link #endCapture(Viewport)} goes into the frame buffer.
+     */
+    public void beginCapture() {
+        frameBuffer.begin();
+    }
+
+    /**
+     * Stops capturing and draws to the window again.
+     *
+     * @param viewport the level's viewport, whose part of the window is restored
+     */
+    public void endCapture(final Viewport viewport) {
+        frameBuffer.end(viewport.getScreenX(), viewport.getScreenY(), viewport.getScreenWidth(),
+                viewport.getScreenHeight());
+        captured = true;
+        captures++;
+    }
+
+    /**
+     * Forgets the captured frame, so the next pause captures a new one.
+     */
+    public void release() {
+        captured = false;
+    }
+
+    /**
+     * Draws the captured frame tinted over the whole view, in a pass of its own.
+     *
+     * @param batch the batch, not begun
+     */
+    public void draw(final Batch batch) {
+        batch.setShader(shader);
+        batch.setProjectionMatrix(projection);
+        batch.disableBlending();
+        batch.begin();
+        shader.setUniformf("u_tint", TINT_GREY, TINT_GREY, TINT_GREY, TINT_STRENGTH);
+        batch.draw(region, 0f, 0f, 1f, 1f);
+        batch.end();
+        batch.enableBlending();
+        batch.setShader(null);
+    }
+
+    /**
+     * Returns the number of frames captured so far.
+     *
+     * @return the number of captures
+     */
+    public int getCaptures() {
+        return captures;
+    }
+
+    /**
+     * Disposes the frame buffer and the shader.
+     */
+    @Override
+    public void dispose() {
+        frameBuffer.dispose();
+        shader.dispose();
+    }
+
+    /**
+     * Returns the string representation of PausedFrame.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "PausedFrame{" + "width=" + frameBuffer.getWidth() + ", height=" + frameBuffer.getHeight()
+                + ", captured=" + captured + ", captures=" + captures + '}';
+    }
+}
@@ -0,0 +1,14 @@
+package com.toads.odyssey.view;
+
+/**
+ * The layers of a level's sprites, from the bottom up. A layer is always drawn over the layers before it; within a
+ * layer the sprites are drawn in the order that switches texture the least.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public enum RenderLayer {
+    ENTITIES,
+    PLAYER,
+    HUD
+}
@@ -0,0 +1,237 @@
+package com.toads.odyssey.view;
+
+/**
+ * Counters describing what the last frame of a level drew.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class RenderMetrics {
+    private int visibleCoins;
+    private int totalCoins;
+    private int visibleMushrooms;
+    private int totalMushrooms;
+    private int visibleTileChunks;
+    private int residentTileChunks;
+    private int tileRenderCalls;
+    private int tileChunkStalls;
+    private int textureBindings;
+    private int drawCalls;
+    private int hudCacheHits;
+    private int hudCacheMisses;
+    private int batchRenderCalls;
+    private int maxSpritesInBatch;
+
+    /**
+     * Sets the number of coins drawn and the number of coins still in the level.
+     *
+     * @param visible the number of coins drawn
+     * @param total   the number of coins not collected
+     */
+    public void setCoins(final int visible, final int total) {
+        visibleCoins = visible;
+        totalCoins = total;
+    }
+
+    /**
+     * Sets the number of mushrooms drawn and the number of mushrooms in the level.
+     *
+     * @param visible the number of mushrooms drawn
+     * @param total   the number of mushrooms
+     */
+    public void setMushrooms(final int visible, final int total) {
+        visibleMushrooms = visible;
+        totalMushrooms = total;
+    }
+
+    /**
+     * Sets the number of tile chunks drawn, the number of chunks resident, the draw calls they took and the number
+     * of chunks the rendering thread had to build itself.
+     *
+     * @param visible     the number of chunks drawn
+     * @param resident    the number of chunks resident
+     * @param renderCalls the number of draw calls
+     * @param stalls      the number of chunks built on the rendering thread so far
+     */
+    public void setTileChunks(final int visible, final int resident, final int renderCalls, final int stalls) {
+        visibleTileChunks = visible;
+        residentTileChunks = resident;
+        tileRenderCalls = renderCalls;
+        tileChunkStalls = stalls;
+    }
+
+    /**
+     * Sets the number of texture bindings and draw calls of the whole frame.
+     *
+     * @param bindings  the number of texture bindings
+     * @param drawCalls the number of draw calls
+     */
+    public void setGlCalls(final int bindings, final int drawCalls) {
+        textureBindings = bindings;
+        this.drawCalls = drawCalls;
+    }
+
+    /**
+     * Sets how many frames drew the HUD from its cached layer and how many had to redraw the layer first.
+     *
+     * @param hits   the number of frames that reused the layer so far
+     * @param misses the number of frames that redrew the layer so far
+     */
+    public void setHudCache(final int hits, final int misses) {
+        hudCacheHits = hits;
+        hudCacheMisses = misses;
+    }
+
+    /**
+     * Sets the number of draw calls the batch of the level's sprites took and the most sprites one of them drew.
+     *
+     * @param renderCalls       the number of draw calls of the batch
+     * @param maxSpritesInBatch the most sprites drawn by one call
+     */
+    public void setBatch(final int renderCalls, final int maxSpritesInBatch) {
+        batchRenderCalls = renderCalls;
+        this.maxSpritesInBatch = maxSpritesInBatch;
+    }
+
+    /**
+     * Returns the number of coins drawn.
+     *
+     * @return the number of coins drawn
+     */
+    public int getVisibleCoins() {
+        return visibleCoins;
+    }
+
+    /**
+     * Returns the number of coins still in the level.
+     *
+     * @return the number of coins not collected
+     */
+    public int getTotalCoins() {
+        return totalCoins;
+    }
+
+    /**
+     * Returns the number of mushrooms drawn.
+     *
+     * @return the number of mushrooms drawn
+     */
+    public int getVisibleMushrooms() {
+        return visibleMushrooms;
+    }
+
+    /**
+     * Returns the number of mushrooms in the level.
+     *
+     * @return the number of mushrooms
+     */
+    public int getTotalMushrooms() {
+        return totalMushrooms;
+    }
+
+    /**
+     * Returns the number of tile chunks drawn.
+     *
+     * @return the number of chunks drawn
+     */
+    public int getVisibleTileChunks() {
+        return visibleTileChunks;
+    }
+
+    /**
+     * Returns the number of tile chunks resident.
+     *
+     * @return the number of chunks resident
+     */
+    public int getResidentTileChunks() {
+        return residentTileChunks;
+    }
+
+    /**
+     * Returns the number of draw calls the tile chunks took.
+     *
+     * @return the number of draw calls
+     */
+    public int getTileRenderCalls() {
+        return tileRenderCalls;
+    }
+
+    /**
+     * Returns the number of tile chunks built on the rendering thread so far.
+     *
+     * @return the number of stalls
+     */
+    public int getTileChunkStalls() {
+        return tileChunkStalls;
+    }
+
+    /**
+     * Returns the number of texture bindings of the frame.
+     *
+     * @return the number of texture bindings
+     */
+    public int getTextureBindings() {
+        return textureBindings;
+    }
+
+    /**
+     * Returns the number of draw calls of the frame.
+     *
+     * @return the number of draw calls
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Returns the number of frames that drew the HUD from its cached layer.
+     *
+     * @return the number of cache hits
+     */
+    public int getHudCacheHits() {
+        return hudCacheHits;
+    }
+
+    /**
+     * Returns the number of frames that redrew the HUD's layer.
+     *
+     * @return the number of cache misses
+     */
+    public int getHudCacheMisses() {
+        return hudCacheMisses;
+    }
+
+    /**
+     * Returns the number of draw calls the batch of the level's sprites took.
+     *
+     * @return the number of draw calls of the batch
+     */
+    public int getBatchRenderCalls() {
+        return batchRenderCalls;
+    }
+
+    /**
+     * Returns the most sprites one draw call of the level's batch drew.
+     *
+     * @return the most sprites drawn by one call
+     */
+    public int getMaxSpritesInBatch() {
+        return maxSpritesInBatch;
+    }
+
+    /**
+     * Returns the string representation of RenderMetrics.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "RenderMetrics{" + "visibleCoins=" + visibleCoins + ", totalCoins=" + totalCoins
+                + ", visibleMushrooms=" + visibleMushrooms + ", totalMushrooms=" + totalMushrooms
+                + ", visibleTileChunks=" + visibleTileChunks + ", residentTileChunks=" + residentTileChunks
+                + ", tileRenderCalls=" + tileRenderCalls + ", tileChunkStalls=" + tileChunkStalls
+                + ", textureBindings=" + textureBindings + ", drawCalls=" + drawCalls + ", hudCacheHits="
+                + hudCacheHits + ", hudCacheMisses=" + hudCacheMisses + ", batchRenderCalls=" + batchRenderCalls
+                + ", maxSpritesInBatch=" + maxSpritesInBatch + '}';
+    }
+}
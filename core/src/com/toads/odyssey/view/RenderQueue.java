@@ -0,0 +1,121 @@
+package com.toads.odyssey.view;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Collects the sprites of a frame and draws them sorted by layer, then by blending and texture, so a batch only
+ * flushes when the layering forces it to. Each sprite is sorted by one key: its layer in the top bits, whether its
+ * colors are premultiplied by their alpha, the order its texture was first submitted in, and the order it was
+ * submitted in, which keeps the sort stable. The queue reuses its arrays, so a frame allocates nothing once the
+ * queue has grown to the frame's number of sprites.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class RenderQueue {
+    private static final int LAYER_SHIFT = 56;
+    private static final int PREMULTIPLIED_SHIFT = 55;
+    private static final int TEXTURE_SHIFT = 32;
+    private static final long TEXTURE_MASK = (1L << (PREMULTIPLIED_SHIFT - TEXTURE_SHIFT)) - 1;
+    private static final long INDEX_MASK = (1L << TEXTURE_SHIFT) - 1;
+    private static final int BOUNDS = 4;
+    private final Array<TextureRegion> regions = new Array<>();
+    private final FloatArray bounds = new FloatArray();
+    private final LongArray keys = new LongArray();
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+
+    /**
+     * Submits a sprite blended by its alpha.
+     *
+     * @param layer  the layer of the sprite
+     * @param region the region drawn
+     * @param x      the left of the sprite
+     * @param y      the bottom of the sprite
+     * @param width  the width of the sprite
+     * @param height the height of the sprite
+     */
+    public void submit(final RenderLayer layer, final TextureRegion region, final float x, final float y,
+                       final float width, final float height) {
+        submit(layer, region, x, y, width, height, false);
+    }
+
+    /**
+     * Submits a sprite.
+     *
+     * @param layer         the layer of the sprite
+     * @param region        the region drawn
+     * @param x             the left of the sprite
+     * @param y             the bottom of the sprite
+     * @param width         the width of the sprite
+     * @param height        the height of the sprite
+     * @param premultiplied true if the colors of the region are already multiplied by their alpha
+     */
+    public void submit(final RenderLayer layer, final TextureRegion region, final float x, final float y,
+                       final float width, final float height, final boolean premultiplied) {
+        Texture texture = region.getTexture();
+        int textureId = textureIds.get(texture, -1);
+        if (textureId < 0) {
+            textureId = textureIds.size;
+            textureIds.put(texture, textureId);
+        }
+        long key = (long) layer.ordinal() << LAYER_SHIFT | (textureId & TEXTURE_MASK) << TEXTURE_SHIFT | regions.size;
+        if (premultiplied) {
+            key |= 1L << PREMULTIPLIED_SHIFT;
+        }
+        keys.add(key);
+        regions.add(region);
+        bounds.add(x, y, width, height);
+    }
+
+    /**
+     * Draws the sprites submitted since the last flush into a batch pass already begun, and empties the queue.
+     * The blending of the batch is the same afterwards as before.
+     *
+     * @param batch the batch of the pass
+     */
+    public void flush(final Batch batch) {
+        int src = batch.getBlendSrcFunc();
+        int dst = batch.getBlendDstFunc();
+        boolean premultiplied = false;
+        keys.sort();
+        for (int i = 0; i < keys.size; i++) {
+            long key = keys.get(i);
+            boolean premultipliedKey = (key >>> PREMULTIPLIED_SHIFT & 1L) != 0;
+            if (premultipliedKey != premultiplied) {
+                premultiplied = premultipliedKey;
+                if (premultiplied) {
+                    batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                } else {
+                    batch.setBlendFunction(src, dst);
+                }
+            }
+            int index = (int) (key & INDEX_MASK);
+            int b = index * BOUNDS;
+            batch.draw(regions.get(index), bounds.get(b), bounds.get(b + 1), bounds.get(b + 2), bounds.get(b + 3));
+        }
+        if (premultiplied) {
+            batch.setBlendFunction(src, dst);
+        }
+        keys.clear();
+        regions.clear();
+        bounds.clear();
+        textureIds.clear();
+    }
+
+    /**
+     * Returns the string representation of RenderQueue.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "RenderQueue{" + "queued=" + keys.size + ", textures=" + textureIds.size + '}';
+    }
+}
@@ -7,7 +7,6 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.toads.odyssey.ToadsOdyssey;
-import com.toads.odyssey.util.AssetsLoader;
 
 /**
  * Represents the start screen.
@@ -18,20 +17,23 @@ import com.toads.odyssey.util.AssetsLoader;
 public final class StartScreen implements Screen {
     private final ToadsOdyssey game;
     private final Viewport viewport;
+    private final CutscenePlayer cutscene;
     private TextureRegion region;
     private float stateTimer;
 
     /**
      * Constructs a start screen.
      * @param game the game instance
+     * @param cutscene the player of the screen's cutscene, disposed with the screen
      */
-    public StartScreen(final ToadsOdyssey game) {
+    public StartScreen(final ToadsOdyssey game, final CutscenePlayer cutscene) {
         this.game = game;
         viewport = new StretchViewport(ToadsOdyssey.SCREEN_WIDTH / ToadsOdyssey.PPM,
                 ToadsOdyssey.SCREEN_HEIGHT / ToadsOdyssey.PPM);
         viewport.apply();
+        this.cutscene = cutscene;
         stateTimer = 0;
-        region = AssetsLoader.getInstance().getIntroScreenAssets().introAnimation.getKeyFrame(stateTimer, true);
+        region = cutscene.getFrame(0);
     }
 
     /**
@@ -41,7 +43,7 @@ public final class StartScreen implements Screen {
      */
     private TextureRegion getFrame(final float delta) {
         stateTimer += delta;
-        return AssetsLoader.getInstance().getIntroScreenAssets().introAnimation.getKeyFrame(stateTimer, true);
+        return cutscene.getFrame(delta);
     }
 
     /**
@@ -50,10 +52,10 @@ public final class StartScreen implements Screen {
      */
     private void update(final float deltaTime) {
         region = getFrame(deltaTime);
-        handleKeyPressed();
         game.getBatch().begin();
         game.getBatch().draw(region, 0, 0, ToadsOdyssey.SCREEN_WIDTH, ToadsOdyssey.SCREEN_HEIGHT);
         game.getBatch().end();
+        handleKeyPressed();
     }
 
     /**
@@ -107,7 +109,7 @@ public final class StartScreen implements Screen {
      */
     @Override
     public void dispose() {
-        region.getTexture().dispose();
+        cutscene.dispose();
     }
 
     /**
@@ -116,7 +118,7 @@ public final class StartScreen implements Screen {
      */
     @Override
     public String toString() {
-        return "StartScreen{" + "game=" + game + ", viewport=" + viewport + ", region=" + region + ", stateTimer="
-                + stateTimer + '}';
+        return "StartScreen{" + "game=" + game + ", viewport=" + viewport + ", cutscene=" + cutscene
+                + ", region=" + region + ", stateTimer=" + stateTimer + '}';
     }
 }
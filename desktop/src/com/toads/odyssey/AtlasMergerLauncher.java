@@ -0,0 +1,198 @@
+package com.toads.odyssey;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Merges the gameplay atlases and standalone images into a single atlas page, ahead of time, so that drawing a
+ * frame of a level does not switch textures between sprites. The regions keep their names, indexes, rotation and
+ * whitespace stripping; a standalone image becomes a region named after its file.
+ * Run by the packGameplayAtlas Gradle task from the assets directory.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class AtlasMergerLauncher {
+    private static final int PAGE_SIZE = 256;
+    private static final int PADDING = 2;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AtlasMergerLauncher() {
+    }
+
+    /**
+     * Merges the atlases and images.
+     *
+     * @param arg the internal path of the atlas to write followed by the internal paths of the atlases and images
+     *            to merge
+     */
+    public static void main(final String[] arg) {
+        if (arg.length < 2) {
+            System.err.println("Usage: AtlasMergerLauncher <merged.atlas> <source.atlas|image.png>...");
+            System.exit(1);
+        }
+        GdxNativesLoader.load();
+        Gdx.files = new HeadlessFiles();
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+        Array<MergedRegion> regions = new Array<>();
+        for (int i = 1; i < arg.length; i++) {
+            FileHandle source = Gdx.files.internal(arg[i]);
+            if ("atlas".equals(source.extension())) {
+                packAtlas(packer, regions, source);
+            } else {
+                packImage(packer, regions, source);
+            }
+        }
+        if (packer.getPages().size != 1) {
+            throw new GdxRuntimeException("The gameplay sprites do not fit on one " + PAGE_SIZE + "x" + PAGE_SIZE
+                    + " page");
+        }
+        FileHandle atlasFile = Gdx.files.local(arg[0]);
+        FileHandle pageFile = atlasFile.sibling(atlasFile.nameWithoutExtension() + ".png");
+        PixmapIO.writePNG(pageFile, packer.getPages().first().getPixmap());
+        atlasFile.writeString(describe(packer, regions, pageFile.name()), false);
+        packer.dispose();
+        System.out.println("Merged " + regions.size + " regions from " + (arg.length - 1) + " files into "
+                + atlasFile.path());
+    }
+
+    /**
+     * Packs the regions of an atlas.
+     *
+     * @param packer  the packer
+     * @param regions the regions packed so far
+     * @param source  the atlas
+     */
+    private static void packAtlas(final PixmapPacker packer, final Array<MergedRegion> regions,
+                                  final FileHandle source) {
+        TextureAtlasData data = new TextureAtlasData(source, source.parent(), false);
+        ObjectMap<TextureAtlasData.Page, Pixmap> pages = new ObjectMap<>();
+        for (TextureAtlasData.Page page : data.getPages()) {
+            pages.put(page, new Pixmap(page.textureFile));
+        }
+        for (TextureAtlasData.Region region : data.getRegions()) {
+            int width = region.rotate ? region.height : region.width;
+            int height = region.rotate ? region.width : region.height;
+            Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+            pixmap.setBlending(Pixmap.Blending.None);
+            pixmap.drawPixmap(pages.get(region.page), 0, 0, region.left, region.top, width, height);
+            MergedRegion merged = new MergedRegion(region.name, region.index, region.rotate, region.width,
+                    region.height, region.originalWidth, region.originalHeight, (int) region.offsetX,
+                    (int) region.offsetY);
+            pack(packer, regions, merged, pixmap);
+        }
+        for (Pixmap pixmap : pages.values()) {
+            pixmap.dispose();
+        }
+    }
+
+    /**
+     * Packs a standalone image as a region named after its file.
+     *
+     * @param packer  the packer
+     * @param regions the regions packed so far
+     * @param source  the image
+     */
+    private static void packImage(final PixmapPacker packer, final Array<MergedRegion> regions,
+                                  final FileHandle source) {
+        Pixmap pixmap = new Pixmap(source);
+        MergedRegion merged = new MergedRegion(source.nameWithoutExtension(), -1, false, pixmap.getWidth(),
+                pixmap.getHeight(), pixmap.getWidth(), pixmap.getHeight(), 0, 0);
+        pack(packer, regions, merged, pixmap);
+    }
+
+    /**
+     * Packs the pixels of a region, refusing regions whose name and index are already packed.
+     *
+     * @param packer  the packer
+     * @param regions the regions packed so far
+     * @param region  the region
+     * @param pixmap  the pixels of the region, disposed once packed
+     */
+    private static void pack(final PixmapPacker packer, final Array<MergedRegion> regions,
+                             final MergedRegion region, final Pixmap pixmap) {
+        if (packer.getRect(region.key()) != null) {
+            throw new GdxRuntimeException("Two gameplay sprites are both named " + region.key());
+        }
+        packer.pack(region.key(), pixmap);
+        pixmap.dispose();
+        regions.add(region);
+    }
+
+    /**
+     * Describes the merged atlas in the libGDX atlas format.
+     *
+     * @param packer   the packer
+     * @param regions  the regions packed
+     * @param pageName the file name of the page
+     * @return the atlas file contents
+     */
+    private static String describe(final PixmapPacker packer, final Array<MergedRegion> regions,
+                                   final String pageName) {
+        StringBuilder atlas = new StringBuilder();
+        atlas.append(pageName).append('\n');
+        atlas.append("size: ").append(PAGE_SIZE).append(", ").append(PAGE_SIZE).append('\n');
+        atlas.append("format: RGBA8888\nfilter: Linear,Linear\nrepeat: none\n");
+        for (MergedRegion region : regions) {
+            Rectangle rect = packer.getRect(region.key());
+            atlas.append(region.name).append('\n');
+            atlas.append("  rotate: ").append(region.rotate).append('\n');
+            atlas.append("  xy: ").append((int) rect.x).append(", ").append((int) rect.y).append('\n');
+            atlas.append("  size: ").append(region.width).append(", ").append(region.height).append('\n');
+            atlas.append("  orig: ").append(region.originalWidth).append(", ").append(region.originalHeight)
+                    .append('\n');
+            atlas.append("  offset: ").append(region.offsetX).append(", ").append(region.offsetY).append('\n');
+            atlas.append("  index: ").append(region.index).append('\n');
+        }
+        return atlas.toString();
+    }
+
+    /**
+     * A region of the merged atlas, as described by its source.
+     */
+    private static final class MergedRegion {
+        private final String name;
+        private final int index;
+        private final boolean rotate;
+        private final int width;
+        private final int height;
+        private final int originalWidth;
+        private final int originalHeight;
+        private final int offsetX;
+        private final int offsetY;
+
+        MergedRegion(final String name, final int index, final boolean rotate, final int width, final int height,
+                     final int originalWidth, final int originalHeight, final int offsetX, final int offsetY) {
+            this.name = name;
+            this.index = index;
+            this.rotate = rotate;
+            this.width = width;
+            this.height = height;
+            this.originalWidth = originalWidth;
+            this.originalHeight = originalHeight;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+        }
+
+        /**
+         * Returns the name the region is packed under, unique for each name and index.
+         *
+         * @return the key
+         */
+        String key() {
+            return name + "#" + index;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.toads.odyssey;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.toads.odyssey.util.Cutscene;
+
+/**
+ * Splits the atlas page of each cutscene into one PNG per frame, ahead of time, so the game can stream the frames.
+ * Run by the splitCutscenes Gradle task from the assets directory. A cutscene whose atlas page is missing is
+ * skipped, so the build does not depend on the large cutscene pages being checked out.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class CutsceneSplitterLauncher {
+    private static final String FRAME_REGION = "frame";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private CutsceneSplitterLauncher() {
+    }
+
+    /**
+     * Splits every cutscene.
+     *
+     * @param arg unused
+     */
+    public static void main(final String[] arg) {
+        GdxNativesLoader.load();
+        Gdx.files = new HeadlessFiles();
+        for (Cutscene cutscene : Cutscene.values()) {
+            split(cutscene);
+        }
+    }
+
+    /**
+     * Splits a cutscene, writing its frames into its frame directory.
+     *
+     * @param cutscene the cutscene
+     */
+    private static void split(final Cutscene cutscene) {
+        FileHandle atlasFile = Gdx.files.internal(cutscene.getAtlasPath());
+        TextureAtlasData data = new TextureAtlasData(atlasFile, atlasFile.parent(), false);
+        for (TextureAtlasData.Page page : data.getPages()) {
+            if (!page.textureFile.exists()) {
+                System.out.println("Skipped " + cutscene + ": " + page.textureFile.path() + " is missing");
+                return;
+            }
+        }
+        long start = System.nanoTime();
+        FileHandle directory = Gdx.files.local(cutscene.getFrameDirectory());
+        directory.mkdirs();
+        for (TextureAtlasData.Page page : data.getPages()) {
+            Pixmap pixmap = new Pixmap(page.textureFile);
+            for (TextureAtlasData.Region region : data.getRegions()) {
+                if (region.page != page || !FRAME_REGION.equals(region.name) || region.index < 0) {
+                    continue;
+                }
+                Pixmap frame = new Pixmap(region.width, region.height, pixmap.getFormat());
+                frame.setBlending(Pixmap.Blending.None);
+                frame.drawPixmap(pixmap, 0, 0, region.left, region.top, region.width, region.height);
+                PixmapIO.writePNG(Gdx.files.local(cutscene.getFramePath(region.index)), frame);
+                frame.dispose();
+            }
+            pixmap.dispose();
+        }
+        System.out.println("Split " + cutscene + " into " + directory.path() + " in "
+                + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+}
@@ -2,6 +2,7 @@ package com.toads.odyssey;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.toads.odyssey.util.LaunchOptions;
 
 /**
  * Runs the game on desktop.
@@ -34,6 +35,6 @@ public final class DesktopLauncher {
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
         config.setWindowedMode(SCREEN_WIDTH, SCREEN_HEIGHT);
         config.setTitle("Toad's Odyssey");
-        new Lwjgl3Application(new ToadsOdyssey(), config);
+        new Lwjgl3Application(new ToadsOdyssey(LaunchOptions.parse(arg)), config);
     }
 }
@@ -0,0 +1,45 @@
+package com.toads.odyssey;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.toads.odyssey.util.LaunchOptions;
+
+/**
+ * Runs the level simulation without a window or GL context, as fast as possible.
+ * Used for soak tests and throughput baselines on machines without a GPU.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class HeadlessLauncher {
+    /**
+     * The number of ticks simulated when none is given and no input is replayed.
+     */
+    public static final int DEFAULT_TICKS = 100000;
+    /**
+     * Means the number of ticks was not given.
+     */
+    public static final int UNSPECIFIED_TICKS = -1;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private HeadlessLauncher() {
+    }
+
+    /**
+     * Drives the simulation headless.
+     *
+     * @param arg the arguments, optionally the number of ticks to simulate followed by the launch options, such as
+     *            the input recording to replay
+     */
+    public static void main(final String[] arg) {
+        int ticks = UNSPECIFIED_TICKS;
+        if (arg.length > 0 && !arg[0].startsWith("--")) {
+            ticks = Integer.parseInt(arg[0]);
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new SimulationRunner(ticks, LaunchOptions.parse(arg)), config);
+    }
+}
@@ -0,0 +1,43 @@
+package com.toads.odyssey;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.files.FileHandle;
+import com.toads.odyssey.util.LevelCompiler;
+import com.toads.odyssey.util.LevelFile;
+
+/**
+ * Compiles a TMX map into a compiled level file, ahead of time.
+ * Run by the compileLevels Gradle task from the assets directory.
+ *
+ * @author Mika, Joanne
+ * @version 2023
+ */
+public final class LevelCompilerLauncher {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private LevelCompilerLauncher() {
+    }
+
+    /**
+     * Compiles a map.
+     *
+     * @param arg the internal path of the TMX map followed by the internal path of the compiled level to write
+     */
+    public static void main(final String[] arg) {
+        if (arg.length != 2) {
+            System.err.println("Usage: LevelCompilerLauncher <map.tmx> <level.lvl>");
+            System.exit(1);
+        }
+        Gdx.files = new HeadlessFiles();
+        long start = System.nanoTime();
+        LevelFile level = new LevelCompiler().compile(Gdx.files.internal(arg[0]));
+        FileHandle output = Gdx.files.local(arg[1]);
+        level.write(output);
+        System.out.println("Compiled " + arg[0] + " into " + output.path() + " (" + output.length() + " bytes, "
+                + level.getTileCount() + " tile ids) in " + (System.nanoTime() - start) / 1000000 + " ms: "
+                + level.getData());
+    }
+}
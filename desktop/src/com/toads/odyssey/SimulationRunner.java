@@ -0,0 +1,100 @@
+package com.toads.odyssey;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.physics.box2d.World;
+import com.toads.odyssey.model.Level1Simulation;
+import com.toads.odyssey.model.LevelSimulation;
+import com.toads.odyssey.model.Player;
+import com.toads.odyssey.util.Constants;
+import com.toads.odyssey.util.InputReplay;
+import com.toads.odyssey.util.LaunchOptions;
+import com.toads.odyssey.util.SimulationMapLoader;
+
+/**
+ * Runs a fixed number of simulation ticks at maximum speed and reports the throughput.
+ * When an input recording is replayed, the state the level ends in is reported as well, so that two runs of the
+ * same recording can be compared. The size of the world and the contacts it tracks each tick are reported so that
+ * changes to the level geometry can be measured.
+ *
+ * @author Joanne, Mika
+ * @version 2023
+ */
+public final class SimulationRunner extends ApplicationAdapter {
+    private static final double NANOS_PER_SECOND = 1e9;
+    private final int requestedTicks;
+    private final LaunchOptions options;
+
+    /**
+     * Constructs a simulation runner.
+     *
+     * @param ticks   the number of ticks to simulate, or {@link HeadlessLauncher#UNSPECIFIED_TICKS} for the length
+     *                of the replay or the default
+     * @param options the options the runner was launched with
+     */
+    public SimulationRunner(final int ticks, final LaunchOptions options) {
+        this.requestedTicks = ticks;
+        this.options = options;
+    }
+
+    /**
+     * Loads the level, runs the ticks and exits.
+     */
+    @Override
+    public void create() {
+        long loadStart = System.nanoTime();
+        LevelSimulation simulation;
+        if (options.getLevelGenerator() != null) {
+            simulation = new Level1Simulation(options.getLevelGenerator().generate(false));
+        } else {
+            simulation = new Level1Simulation(new SimulationMapLoader());
+        }
+        long loadTime = System.nanoTime() - loadStart;
+        int ticks = requestedTicks;
+        if (options.getReplayFile() != null) {
+            InputReplay replay = new InputReplay(Gdx.files.absolute(options.getReplayFile()));
+            simulation.setInputSource(replay);
+            if (ticks == HeadlessLauncher.UNSPECIFIED_TICKS) {
+                ticks = replay.getTickCount();
+            }
+        }
+        if (ticks == HeadlessLauncher.UNSPECIFIED_TICKS) {
+            ticks = HeadlessLauncher.DEFAULT_TICKS;
+        }
+        World world = simulation.getWorld();
+        long contacts = 0;
+        int maxContacts = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            simulation.update(Constants.TIME_STEP);
+            contacts += world.getContactCount();
+            maxContacts = Math.max(maxContacts, world.getContactCount());
+        }
+        long elapsed = System.nanoTime() - start;
+        Gdx.app.log("Simulation", "Loaded level in " + loadTime / NANOS_PER_SECOND * 1000 + " ms");
+        Gdx.app.log("Simulation", ticks + " ticks in " + elapsed / NANOS_PER_SECOND + " s ("
+                + (long) (ticks / (elapsed / NANOS_PER_SECOND)) + " ticks/s)");
+        Gdx.app.log("Simulation", world.getBodyCount() + " bodies, " + world.getFixtureCount() + " fixtures, "
+                + world.getProxyCount() + " broad-phase proxies, " + (float) contacts / Math.max(ticks, 1)
+                + " contacts per tick (max " + maxContacts + "), " + simulation.getActivePlatformCount() + " of "
+                + simulation.getPlatformCount() + " platform chunks active");
+        if (options.getReplayFile() != null) {
+            Player player = simulation.getPlayer();
+            Gdx.app.log("Simulation", "Replay ended with the player at " + player.getPosition() + ", "
+                    + simulation.getCoinCount() + " coins, " + player.getLives() + " lives, paused="
+                    + simulation.isPaused());
+        }
+        simulation.dispose();
+        Gdx.app.exit();
+    }
+
+    /**
+     * Returns the string representation of SimulationRunner.
+     *
+     * @return a string
+     */
+    @Override
+    public String toString() {
+        return "SimulationRunner{" + "requestedTicks=" + requestedTicks + ", options=" + options + '}';
+    }
+}